@@ -0,0 +1,138 @@
+package net.runelite.client.plugins.microbot.tutorialisland.benchmark;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import net.runelite.api.Client;
+import net.runelite.api.ItemID;
+import net.runelite.client.plugins.microbot.tutorialisland.TutorialIslandConfig;
+import net.runelite.client.plugins.microbot.tutorialisland.actions.GameActions;
+import net.runelite.client.plugins.microbot.tutorialisland.enums.GameTab;
+import net.runelite.client.plugins.microbot.tutorialisland.models.GameStateSnapshot;
+import net.runelite.client.plugins.microbot.tutorialisland.models.TutorialSession;
+
+import java.lang.reflect.Proxy;
+
+final class BenchmarkSupport {
+
+    static final TutorialIslandConfig CONFIG = new TutorialIslandConfig() {
+    };
+
+    private BenchmarkSupport() {
+    }
+
+    static Injector createInjector() {
+        return Guice.createInjector(new AbstractModule() {
+            @Override
+            protected void configure() {
+                bind(Client.class).toInstance(unavailable(Client.class));
+                bind(TutorialIslandConfig.class).toInstance(CONFIG);
+            }
+        });
+    }
+
+    static TutorialSession session() {
+        return new TutorialSession("benchmark", new NoOpGameActions());
+    }
+
+    static GameStateSnapshot snapshot(int tick, int tutorialProgress) {
+        return GameStateSnapshot.builder()
+            .tick(tick)
+            .inventory(ItemID.BRONZE_PICKAXE, ItemID.TIN_ORE, ItemID.COPPER_ORE, ItemID.BRONZE_BAR,
+                ItemID.HAMMER, ItemID.SHORTBOW, ItemID.BRONZE_ARROW, ItemID.LOGS, ItemID.TINDERBOX)
+            .equipment(ItemID.BRONZE_DAGGER)
+            .tutorialProgress(tutorialProgress)
+            .build();
+    }
+
+    private static <T> T unavailable(Class<T> type) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type},
+            (proxy, method, args) -> {
+                if (method.getDeclaringClass() == Object.class) {
+                    switch (method.getName()) {
+                        case "equals":
+                            return proxy == args[0];
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        default:
+                            return "Unavailable" + type.getSimpleName();
+                    }
+                }
+                throw new UnsupportedOperationException(type.getSimpleName() + " is not available in benchmarks");
+            }));
+    }
+
+    private static final class NoOpGameActions implements GameActions {
+
+        @Override
+        public boolean interactNpc(String name, String action) {
+            return true;
+        }
+
+        @Override
+        public boolean interactNpc(int npcId, String action) {
+            return true;
+        }
+
+        @Override
+        public boolean interactObject(String name, String action) {
+            return true;
+        }
+
+        @Override
+        public boolean interactObject(int objectId, String action) {
+            return true;
+        }
+
+        @Override
+        public boolean combineItems(int firstItemId, int secondItemId) {
+            return true;
+        }
+
+        @Override
+        public boolean useItemOnObject(int itemId, String objectName) {
+            return true;
+        }
+
+        @Override
+        public boolean wield(int itemId) {
+            return true;
+        }
+
+        @Override
+        public boolean openTab(GameTab tab) {
+            return true;
+        }
+
+        @Override
+        public boolean clickWidget(int groupId, int childId) {
+            return true;
+        }
+
+        @Override
+        public boolean clickWidget(String text) {
+            return true;
+        }
+
+        @Override
+        public void continueDialogue() {
+        }
+
+        @Override
+        public void selectDialogueOption(int option) {
+        }
+
+        @Override
+        public void closeBank() {
+        }
+
+        @Override
+        public boolean castSpellOn(String spell, int npcId) {
+            return true;
+        }
+
+        @Override
+        public void showMessage(String message) {
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package net.runelite.client.plugins.microbot.tutorialisland.benchmark;
+
+import net.runelite.client.plugins.microbot.tutorialisland.managers.ErrorRecoveryManager;
+import net.runelite.client.plugins.microbot.tutorialisland.models.TutorialSession;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ErrorRecoveryBenchmark {
+
+    private static final String[] ACTIONS = {
+        "talkToSurvivalExpert", "fishShrimp", "chopTree", "lightFire",
+        "mineTinOre", "smeltBronzeBar", "killGiantRat", "openBank"
+    };
+
+    private ErrorRecoveryManager errorRecovery;
+    private TutorialSession session;
+    private int index;
+
+    @Setup
+    public void setup() {
+        errorRecovery = BenchmarkSupport.createInjector().getInstance(ErrorRecoveryManager.class);
+        session = BenchmarkSupport.session();
+    }
+
+    @Benchmark
+    public boolean handleError() {
+        index = (index + 1) & (ACTIONS.length - 1);
+        String action = ACTIONS[index];
+        boolean retry = errorRecovery.handleError(session, action, "Benchmark failure");
+        if (!retry) {
+            errorRecovery.resetError(session, action);
+        }
+        return retry;
+    }
+
+    @Benchmark
+    public boolean handleThenReset() {
+        index = (index + 1) & (ACTIONS.length - 1);
+        String action = ACTIONS[index];
+        boolean retry = errorRecovery.handleError(session, action, "Benchmark failure");
+        errorRecovery.resetError(session, action);
+        return retry;
+    }
+}
@@ -0,0 +1,112 @@
+package net.runelite.client.plugins.microbot.tutorialisland.benchmark;
+
+import com.google.inject.Injector;
+import net.runelite.client.plugins.microbot.tutorialisland.enums.TutorialSubStep;
+import net.runelite.client.plugins.microbot.tutorialisland.models.GameStateSnapshot;
+import net.runelite.client.plugins.microbot.tutorialisland.models.TutorialSession;
+import net.runelite.client.plugins.microbot.tutorialisland.stages.BrotherBraceStage;
+import net.runelite.client.plugins.microbot.tutorialisland.stages.CombatInstructorStage;
+import net.runelite.client.plugins.microbot.tutorialisland.stages.FinalInstructorStage;
+import net.runelite.client.plugins.microbot.tutorialisland.stages.FinancialAdvisorStage;
+import net.runelite.client.plugins.microbot.tutorialisland.stages.GielinorGuideStage;
+import net.runelite.client.plugins.microbot.tutorialisland.stages.IStageHandler;
+import net.runelite.client.plugins.microbot.tutorialisland.stages.MagicInstructorStage;
+import net.runelite.client.plugins.microbot.tutorialisland.stages.MasterChefStage;
+import net.runelite.client.plugins.microbot.tutorialisland.stages.MiningInstructorStage;
+import net.runelite.client.plugins.microbot.tutorialisland.stages.QuestGuideStage;
+import net.runelite.client.plugins.microbot.tutorialisland.stages.StageStep;
+import net.runelite.client.plugins.microbot.tutorialisland.stages.SurvivalExpertStage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class HandlerDecisionBenchmark {
+
+    @Param({
+        "TALK_TO_GIELINOR_GUIDE",
+        "FISH_SHRIMP",
+        "COOK_BREAD",
+        "OPEN_QUEST_TAB",
+        "SMITH_DAGGER",
+        "SHOOT_RAT",
+        "OPEN_POLL_BOOTH",
+        "OPEN_FRIENDS_TAB",
+        "CAST_WIND_STRIKE",
+        "FINISH_TUTORIAL"
+    })
+    public String subStepName;
+
+    private TutorialSubStep subStep;
+    private IStageHandler handler;
+    private GameStateSnapshot state;
+    private TutorialSession session;
+
+    @Setup
+    public void setup() {
+        Injector injector = BenchmarkSupport.createInjector();
+        subStep = TutorialSubStep.valueOf(subStepName);
+        state = BenchmarkSupport.snapshot(1, subStep.getVarbit());
+        session = BenchmarkSupport.session();
+
+        switch (subStep.getStage()) {
+            case GIELINOR_GUIDE:
+                handler = injector.getInstance(GielinorGuideStage.class);
+                break;
+            case SURVIVAL_EXPERT:
+                handler = injector.getInstance(SurvivalExpertStage.class);
+                break;
+            case MASTER_CHEF:
+                handler = injector.getInstance(MasterChefStage.class);
+                break;
+            case QUEST_GUIDE:
+                handler = injector.getInstance(QuestGuideStage.class);
+                break;
+            case MINING_INSTRUCTOR:
+                handler = injector.getInstance(MiningInstructorStage.class);
+                break;
+            case COMBAT_INSTRUCTOR:
+                handler = injector.getInstance(CombatInstructorStage.class);
+                break;
+            case FINANCIAL_ADVISOR:
+                handler = injector.getInstance(FinancialAdvisorStage.class);
+                break;
+            case BROTHER_BRACE:
+                handler = injector.getInstance(BrotherBraceStage.class);
+                break;
+            case MAGIC_INSTRUCTOR:
+                handler = injector.getInstance(MagicInstructorStage.class);
+                break;
+            case FINAL_INSTRUCTOR:
+                handler = injector.getInstance(FinalInstructorStage.class);
+                break;
+            default:
+                throw new IllegalArgumentException("No handler for " + subStep);
+        }
+    }
+
+    @Benchmark
+    public StageStep decide() {
+        return handler.execute(session, BenchmarkSupport.CONFIG, subStep, state);
+    }
+
+    @Benchmark
+    public boolean decideAndResolve() {
+        return handler.execute(session, BenchmarkSupport.CONFIG, subStep, state).isSatisfied(state);
+    }
+}
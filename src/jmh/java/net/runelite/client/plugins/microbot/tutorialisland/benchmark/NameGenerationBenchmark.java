@@ -0,0 +1,81 @@
+package net.runelite.client.plugins.microbot.tutorialisland.benchmark;
+
+import net.runelite.client.plugins.microbot.tutorialisland.managers.NameGenerationManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class NameGenerationBenchmark {
+
+    @Param({"10000", "100000", "1000000"})
+    public int usedNames;
+
+    private String originalUserHome;
+    private Path userHome;
+    private NameGenerationManager nameGenerationManager;
+    private String usedProbe;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        originalUserHome = System.getProperty("user.home");
+        userHome = Files.createTempDirectory("tutorial-island-names");
+        System.setProperty("user.home", userHome.toString());
+
+        Path namesFile = userHome.resolve(".runelite").resolve("microbot").resolve("microbot_used_names.txt");
+        Files.createDirectories(namesFile.getParent());
+
+        try (BufferedWriter writer = Files.newBufferedWriter(namesFile, StandardCharsets.UTF_8)) {
+            for (int i = 0; i < usedNames; i++) {
+                writer.write("benchname" + i);
+                writer.newLine();
+            }
+        }
+
+        nameGenerationManager = new NameGenerationManager();
+        usedProbe = "benchname" + (usedNames / 2);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        System.setProperty("user.home", originalUserHome);
+
+        try (Stream<Path> paths = Files.walk(userHome)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public String generateUniqueName() {
+        return nameGenerationManager.generateUniqueName();
+    }
+
+    @Benchmark
+    public boolean isNameUsed() {
+        return nameGenerationManager.isNameUsed(usedProbe);
+    }
+}
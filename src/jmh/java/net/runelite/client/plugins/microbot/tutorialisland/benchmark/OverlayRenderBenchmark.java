@@ -0,0 +1,47 @@
+package net.runelite.client.plugins.microbot.tutorialisland.benchmark;
+
+import net.runelite.client.plugins.microbot.tutorialisland.TutorialIslandOverlay;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.awt.Dimension;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class OverlayRenderBenchmark {
+
+    private TutorialIslandOverlay overlay;
+    private Graphics2D graphics;
+
+    @Setup
+    public void setup() {
+        overlay = BenchmarkSupport.createInjector().getInstance(TutorialIslandOverlay.class);
+        graphics = new BufferedImage(400, 300, BufferedImage.TYPE_INT_ARGB).createGraphics();
+    }
+
+    @TearDown
+    public void tearDown() {
+        graphics.dispose();
+    }
+
+    @Benchmark
+    public Dimension render() {
+        return overlay.render(graphics);
+    }
+}
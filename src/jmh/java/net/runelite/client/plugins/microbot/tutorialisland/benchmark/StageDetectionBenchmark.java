@@ -0,0 +1,71 @@
+package net.runelite.client.plugins.microbot.tutorialisland.benchmark;
+
+import com.google.inject.Injector;
+import net.runelite.client.plugins.microbot.tutorialisland.enums.TutorialStage;
+import net.runelite.client.plugins.microbot.tutorialisland.enums.TutorialSubStep;
+import net.runelite.client.plugins.microbot.tutorialisland.managers.TutorialStageManager;
+import net.runelite.client.plugins.microbot.tutorialisland.models.GameStateSnapshot;
+import net.runelite.client.plugins.microbot.tutorialisland.models.TutorialSession;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class StageDetectionBenchmark {
+
+    private static final int VARBIT_SAMPLES = 1024;
+    private static final int STEADY_STATE_VARBIT = TutorialSubStep.SMELT_BRONZE_BAR.getVarbit();
+
+    private final int[] varbits = new int[VARBIT_SAMPLES];
+    private final GameStateSnapshot[] snapshots = new GameStateSnapshot[VARBIT_SAMPLES];
+    private int index;
+
+    private TutorialSession session;
+    private TutorialStageManager tutorialStageManager;
+
+    @Setup
+    public void setup() {
+        TutorialSubStep[] subSteps = TutorialSubStep.values();
+        for (int i = 0; i < VARBIT_SAMPLES; i++) {
+            varbits[i] = subSteps[i % subSteps.length].getVarbit() + (i % 3);
+            snapshots[i] = BenchmarkSupport.snapshot(i, STEADY_STATE_VARBIT);
+        }
+
+        Injector injector = BenchmarkSupport.createInjector();
+        session = BenchmarkSupport.session();
+        tutorialStageManager = injector.getInstance(TutorialStageManager.class);
+    }
+
+    @Benchmark
+    public TutorialStage stageFromVarbit() {
+        index = (index + 1) & (VARBIT_SAMPLES - 1);
+        return TutorialStage.fromVarbit(varbits[index]);
+    }
+
+    @Benchmark
+    public TutorialSubStep subStepFromVarbit() {
+        index = (index + 1) & (VARBIT_SAMPLES - 1);
+        return TutorialSubStep.fromVarbit(varbits[index]);
+    }
+
+    @Benchmark
+    public TutorialStage detectCurrentStage() {
+        index = (index + 1) & (VARBIT_SAMPLES - 1);
+        session.advanceTick(snapshots[index]);
+        return tutorialStageManager.detectCurrentStage(session);
+    }
+}
@@ -4,6 +4,8 @@ import net.runelite.client.config.Config;
 import net.runelite.client.config.ConfigGroup;
 import net.runelite.client.config.ConfigItem;
 import net.runelite.client.config.ConfigSection;
+import net.runelite.client.plugins.microbot.tutorialisland.enums.AccountType;
+import net.runelite.client.plugins.microbot.tutorialisland.enums.Gender;
 
 @ConfigGroup("tutorialisland")
 public interface TutorialIslandConfig extends Config {
@@ -84,6 +86,39 @@ public interface TutorialIslandConfig extends Config {
         return IronmanType.REGULAR_IRONMAN;
     }
 
+    @ConfigItem(
+            keyName = "gender",
+            name = "Gender",
+            description = "Gender selected in the character creator",
+            position = 3,
+            section = accountSection
+    )
+    default Gender gender() {
+        return Gender.FEMALE;
+    }
+
+    @ConfigItem(
+            keyName = "appearanceSeed",
+            name = "Appearance Seed",
+            description = "Seed for deterministic appearances, combined with the account name (0 = random)",
+            position = 4,
+            section = accountSection
+    )
+    default int appearanceSeed() {
+        return 0;
+    }
+
+    @ConfigItem(
+            keyName = "appearancePreset",
+            name = "Appearance Preset",
+            description = "Appearance preset (gender code and option index per slot, as logged after creation) to use for every account, overrides gender and seed",
+            position = 5,
+            section = accountSection
+    )
+    default String appearancePreset() {
+        return "";
+    }
+
     @ConfigItem(
             keyName = "enableDebugLogging",
             name = "Debug Logging",
@@ -106,19 +141,39 @@ public interface TutorialIslandConfig extends Config {
         return 10;
     }
 
+    @ConfigItem(
+            keyName = "batchCharacterCreation",
+            name = "Batch Character Creation",
+            description = "Plan the whole appearance up front and click it in tick-paced batches",
+            position = 3,
+            section = advancedSection
+    )
+    default boolean batchCharacterCreation() {
+        return true;
+    }
+
     enum IronmanType {
-        REGULAR_IRONMAN("Ironman"),
-        HARDCORE_IRONMAN("Hardcore Ironman"),
-        ULTIMATE_IRONMAN("Ultimate Ironman");
+        REGULAR_IRONMAN("Ironman", AccountType.IRONMAN),
+        HARDCORE_IRONMAN("Hardcore Ironman", AccountType.HARDCORE_IRONMAN),
+        ULTIMATE_IRONMAN("Ultimate Ironman", AccountType.ULTIMATE_IRONMAN),
+        GROUP_IRONMAN("Group Ironman", AccountType.GROUP_IRONMAN),
+        HARDCORE_GROUP_IRONMAN("Hardcore Group Ironman", AccountType.HARDCORE_GROUP_IRONMAN),
+        UNRANKED_GROUP_IRONMAN("Unranked Group Ironman", AccountType.UNRANKED_GROUP_IRONMAN);
 
         private final String displayName;
+        private final AccountType accountType;
 
-        IronmanType(String displayName) {
+        IronmanType(String displayName, AccountType accountType) {
             this.displayName = displayName;
+            this.accountType = accountType;
         }
 
         public String getDisplayName() {
             return displayName;
         }
+
+        public AccountType getAccountType() {
+            return accountType;
+        }
     }
 }
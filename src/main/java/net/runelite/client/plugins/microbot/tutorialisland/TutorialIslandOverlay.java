@@ -4,6 +4,7 @@ import lombok.extern.slf4j.Slf4j;
 import net.runelite.client.plugins.microbot.Microbot;
 import net.runelite.client.plugins.microbot.tutorialisland.enums.TutorialStage;
 import net.runelite.client.plugins.microbot.tutorialisland.managers.PostTutorialManager;
+import net.runelite.client.plugins.microbot.tutorialisland.models.TutorialSession;
 import net.runelite.client.ui.overlay.OverlayPanel;
 import net.runelite.client.ui.overlay.OverlayPosition;
 import net.runelite.client.ui.overlay.components.LineComponent;
@@ -24,8 +25,6 @@ public class TutorialIslandOverlay extends OverlayPanel {
     private final PostTutorialManager postTutorialManager;
     private Instant startTime;
 
-    private static final int TOTAL_STAGES = 12;
-
     @Inject
     public TutorialIslandOverlay(
             TutorialIslandScript script, 
@@ -53,8 +52,10 @@ public class TutorialIslandOverlay extends OverlayPanel {
 
         TutorialStage currentStage = script.getCurrentStage();
 
-        if (currentStage == TutorialStage.COMPLETED && config.walkToFalador()) {
-            renderPostTutorialInfo();
+        TutorialSession session = script.getSession();
+
+        if (currentStage == TutorialStage.COMPLETED && config.walkToFalador() && session != null) {
+            renderPostTutorialInfo(session);
         } else {
             renderTutorialInfo(currentStage);
         }
@@ -108,28 +109,28 @@ public class TutorialIslandOverlay extends OverlayPanel {
         }
     }
 
-    private void renderPostTutorialInfo() {
+    private void renderPostTutorialInfo(TutorialSession session) {
         panelComponent.getChildren().add(LineComponent.builder()
                 .left("Stage:")
                 .right("Post-Tutorial")
                 .rightColor(Color.GREEN)
                 .build());
 
-        String status = postTutorialManager.getStatusMessage();
+        String status = postTutorialManager.getStatusMessage(session);
         panelComponent.getChildren().add(LineComponent.builder()
                 .left("Status:")
                 .right(status)
                 .rightColor(Color.YELLOW)
                 .build());
 
-        int progress = postTutorialManager.getProgressPercentage();
+        int progress = postTutorialManager.getProgressPercentage(session);
         panelComponent.getChildren().add(LineComponent.builder()
                 .left("Progress:")
                 .right(progress + "%")
                 .rightColor(getProgressColor(progress))
                 .build());
 
-        int etaSeconds = postTutorialManager.getEstimatedTimeRemaining();
+        int etaSeconds = postTutorialManager.getEstimatedTimeRemaining(session);
         if (etaSeconds >= 0) {
             String eta = formatSeconds(etaSeconds);
             panelComponent.getChildren().add(LineComponent.builder()
@@ -141,40 +142,7 @@ public class TutorialIslandOverlay extends OverlayPanel {
     }
 
     private String getStageProgress(TutorialStage stage) {
-        int currentStageNumber = getStageNumber(stage);
-        return currentStageNumber + "/" + TOTAL_STAGES;
-    }
-
-    private int getStageNumber(TutorialStage stage) {
-        switch (stage) {
-            case NOT_STARTED:
-            case CHARACTER_CREATION:
-                return 0;
-            case GIELINOR_GUIDE:
-                return 1;
-            case SURVIVAL_EXPERT:
-                return 2;
-            case MASTER_CHEF:
-                return 3;
-            case QUEST_GUIDE:
-                return 4;
-            case MINING_INSTRUCTOR:
-                return 5;
-            case COMBAT_INSTRUCTOR:
-                return 6;
-            case FINANCIAL_ADVISOR:
-                return 7;
-            case BROTHER_BRACE:
-                return 8;
-            case MAGIC_INSTRUCTOR:
-                return 9;
-            case FINAL_INSTRUCTOR:
-                return 10;
-            case COMPLETED:
-                return 12;
-            default:
-                return 0;
-        }
+        return stage.getStageNumber() + "/" + TutorialStage.TOTAL_STAGES;
     }
 
     private Color getStageColor(TutorialStage stage) {
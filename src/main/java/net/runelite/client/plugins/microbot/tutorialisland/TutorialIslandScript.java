@@ -4,15 +4,17 @@ import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.client.plugins.microbot.Microbot;
 import net.runelite.client.plugins.microbot.Script;
+import net.runelite.client.plugins.microbot.tutorialisland.actions.GameActions;
 import net.runelite.client.plugins.microbot.tutorialisland.enums.TutorialStage;
 import net.runelite.client.plugins.microbot.tutorialisland.managers.CharacterCreationManager;
+import net.runelite.client.plugins.microbot.tutorialisland.managers.GameEventManager;
 import net.runelite.client.plugins.microbot.tutorialisland.managers.NameGenerationManager;
 import net.runelite.client.plugins.microbot.tutorialisland.managers.TutorialStageManager;
 import net.runelite.client.plugins.microbot.tutorialisland.managers.PostTutorialManager;
-import net.runelite.client.plugins.microbot.util.player.Rs2Player;
+import net.runelite.client.plugins.microbot.tutorialisland.models.GameStateSnapshot;
+import net.runelite.client.plugins.microbot.tutorialisland.models.TutorialSession;
 
 import javax.inject.Inject;
-import java.util.concurrent.TimeUnit;
 
 @Slf4j
 public class TutorialIslandScript extends Script {
@@ -20,9 +22,12 @@ public class TutorialIslandScript extends Script {
     @Getter
     private TutorialStage currentStage = TutorialStage.NOT_STARTED;
     
+    @Getter
+    private TutorialSession session;
+
     private TutorialIslandConfig config;
     private boolean isRunning = false;
-    private int stuckCheckCounter = 0;
+    private int lastStuckCheckTick = 0;
     private static final int STUCK_CHECK_INTERVAL = 10;
 
     @Inject
@@ -37,6 +42,12 @@ public class TutorialIslandScript extends Script {
     @Inject
     private PostTutorialManager postTutorialManager;
 
+    @Inject
+    private GameEventManager gameEventManager;
+
+    @Inject
+    private GameActions actions;
+
     public boolean run(TutorialIslandConfig config) {
         this.config = config;
         
@@ -49,36 +60,45 @@ public class TutorialIslandScript extends Script {
         Microbot.log("Tutorial Island Bot started!");
         isRunning = true;
 
-        mainScheduledFuture = scheduledExecutorService.scheduleWithFixedDelay(() -> {
-            try {
-                if (!Microbot.isLoggedIn()) {
-                    handleLoginScreen();
-                    return;
-                }
+        session = new TutorialSession("local", actions);
+        lastStuckCheckTick = 0;
+        mainScheduledFuture = gameEventManager.start(scheduledExecutorService, session, this::runPass);
 
-                if (Rs2Player.hasCompletedTutorialIsland()) {
-                    handlePostTutorial();
-                    return;
-                }
+        return true;
+    }
 
-                stuckCheckCounter++;
-                if (stuckCheckCounter >= STUCK_CHECK_INTERVAL) {
-                    stuckCheckCounter = 0;
-                    if (postTutorialManager.isPlayerStuck()) {
-                        log.warn("Player detected as stuck, attempting recovery");
-                        postTutorialManager.attemptUnstuck(config);
-                    }
-                }
+    private void runPass() {
+        try {
+            GameStateSnapshot snapshot = session.getSnapshot();
+            if (!snapshot.isLoggedIn()) {
+                handleLoginScreen();
+                return;
+            }
 
-                progressTutorial();
-                
-            } catch (Exception e) {
-                log.error("Error in Tutorial Island script", e);
-                Microbot.log("Error: " + e.getMessage());
+            if (snapshot.hasCompletedTutorial()) {
+                handlePostTutorial();
+                return;
             }
-        }, 0, 600, TimeUnit.MILLISECONDS);
 
-        return true;
+            int tick = session.getTickCount();
+            if (tick - lastStuckCheckTick >= STUCK_CHECK_INTERVAL) {
+                lastStuckCheckTick = tick;
+                if (postTutorialManager.isPlayerStuck(session)) {
+                    log.warn("Player detected as stuck, attempting recovery");
+                    postTutorialManager.attemptUnstuck(session, config);
+                }
+            }
+
+            progressTutorial();
+
+        } catch (Exception e) {
+            log.error("Error in Tutorial Island script", e);
+            Microbot.log("Error: " + e.getMessage());
+        } finally {
+            if (isRunning) {
+                session.requestWake(STUCK_CHECK_INTERVAL);
+            }
+        }
     }
 
     private void handleLoginScreen() {
@@ -89,11 +109,14 @@ public class TutorialIslandScript extends Script {
         if (characterCreationManager.isCharacterCreationOpen()) {
             currentStage = TutorialStage.CHARACTER_CREATION;
             
-            String accountName = nameGenerationManager.generateUniqueName();
-            log.info("Generated account name: {}", accountName);
-            Microbot.log("Account name: " + accountName);
-            
-            boolean success = characterCreationManager.createFemaleCharacter();
+            if (session.getAccountName() == null) {
+                String accountName = nameGenerationManager.generateUniqueName();
+                session.setAccountName(accountName);
+                log.info("Generated account name: {}", accountName);
+                Microbot.log("Account name: " + accountName);
+            }
+
+            boolean success = characterCreationManager.createCharacter(session, config);
             
             if (success) {
                 log.info("Character creation completed successfully");
@@ -106,13 +129,13 @@ public class TutorialIslandScript extends Script {
     }
 
     private void progressTutorial() {
-        currentStage = tutorialStageManager.detectCurrentStage();
+        currentStage = tutorialStageManager.detectCurrentStage(session);
         
         if (config.enableDebugLogging()) {
             log.debug("Current tutorial stage: {}", currentStage);
         }
 
-        boolean stageComplete = tutorialStageManager.handleStage(currentStage, config);
+        boolean stageComplete = tutorialStageManager.handleStage(session, currentStage, config);
         
         if (!stageComplete) {
             log.warn("Stage {} did not complete successfully", currentStage);
@@ -135,22 +158,26 @@ public class TutorialIslandScript extends Script {
             return;
         }
 
-        if (postTutorialManager.isPlayerStuck()) {
+        if (postTutorialManager.isPlayerStuck(session)) {
             log.warn("Player stuck during navigation to Falador");
-            postTutorialManager.attemptUnstuck(config);
+            postTutorialManager.attemptUnstuck(session, config);
             return;
         }
 
-        boolean reachedBank = postTutorialManager.walkToFaladorBank(config);
+        boolean reachedBank = postTutorialManager.walkToFaladorBank(session, config);
         
         if (reachedBank) {
             log.info("Successfully reached Falador bank. Tutorial Island automation complete!");
             Microbot.log("Reached Falador bank - Bot stopped.");
             shutdown();
-        } else if (config.enableDebugLogging()) {
-            String status = postTutorialManager.getStatusMessage();
-            int progress = postTutorialManager.getProgressPercentage();
-            log.debug("Navigation progress: {}% - {}", progress, status);
+        } else {
+            session.requestWake(1);
+
+            if (config.enableDebugLogging()) {
+                String status = postTutorialManager.getStatusMessage(session);
+                int progress = postTutorialManager.getProgressPercentage(session);
+                log.debug("Navigation progress: {}% - {}", progress, status);
+            }
         }
     }
 
@@ -159,6 +186,7 @@ public class TutorialIslandScript extends Script {
         log.info("Shutting down Tutorial Island script");
         Microbot.log("Tutorial Island Bot stopped.");
         isRunning = false;
+        gameEventManager.stop();
         super.shutdown();
     }
 
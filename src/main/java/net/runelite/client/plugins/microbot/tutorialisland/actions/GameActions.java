@@ -0,0 +1,66 @@
+package net.runelite.client.plugins.microbot.tutorialisland.actions;
+
+import com.google.inject.ImplementedBy;
+import net.runelite.api.coords.WorldPoint;
+import net.runelite.client.plugins.microbot.tutorialisland.enums.GameTab;
+import net.runelite.client.plugins.microbot.tutorialisland.enums.GatheringResource;
+
+import java.util.Collections;
+import java.util.List;
+
+@ImplementedBy(Rs2GameActions.class)
+public interface GameActions {
+
+    int UNKNOWN_TARGET = -1;
+
+    boolean interactNpc(String name, String action);
+
+    boolean interactNpc(int npcId, String action);
+
+    boolean interactObject(String name, String action);
+
+    boolean interactObject(int objectId, String action);
+
+    boolean combineItems(int firstItemId, int secondItemId);
+
+    boolean useItemOnObject(int itemId, String objectName);
+
+    boolean wield(int itemId);
+
+    boolean openTab(GameTab tab);
+
+    boolean clickWidget(int groupId, int childId);
+
+    boolean clickWidget(String text);
+
+    void continueDialogue();
+
+    void selectDialogueOption(int option);
+
+    void closeBank();
+
+    boolean castSpellOn(String spell, int npcId);
+
+    void showMessage(String message);
+
+    default List<WorldPoint> locate(GatheringResource resource) {
+        return Collections.emptyList();
+    }
+
+    default boolean gatherAt(GatheringResource resource, WorldPoint location) {
+        return resource.isNpc()
+            ? interactNpc(resource.getId(), resource.getAction())
+            : interactObject(resource.getId(), resource.getAction());
+    }
+
+    default void hover(GatheringResource resource, WorldPoint location) {
+    }
+
+    default Integer attackUnengaged(int npcId) {
+        return interactNpc(npcId, "Attack") ? UNKNOWN_TARGET : null;
+    }
+
+    default boolean typeName(String name) {
+        return false;
+    }
+}
@@ -0,0 +1,255 @@
+package net.runelite.client.plugins.microbot.tutorialisland.actions;
+
+import net.runelite.api.Actor;
+import net.runelite.api.Client;
+import net.runelite.api.NPC;
+import net.runelite.api.Player;
+import net.runelite.api.TileObject;
+import net.runelite.api.coords.WorldPoint;
+import net.runelite.api.widgets.Widget;
+import net.runelite.client.plugins.microbot.Microbot;
+import net.runelite.client.plugins.microbot.tutorialisland.enums.GameTab;
+import net.runelite.client.plugins.microbot.tutorialisland.enums.GatheringResource;
+import net.runelite.client.plugins.microbot.util.bank.Rs2Bank;
+import net.runelite.client.plugins.microbot.util.dialogues.Rs2Dialogue;
+import net.runelite.client.plugins.microbot.util.gameobject.Rs2GameObject;
+import net.runelite.client.plugins.microbot.util.inventory.Rs2Inventory;
+import net.runelite.client.plugins.microbot.util.keyboard.Rs2Keyboard;
+import net.runelite.client.plugins.microbot.util.magic.Rs2Magic;
+import net.runelite.client.plugins.microbot.util.npc.Rs2Npc;
+import net.runelite.client.plugins.microbot.util.npc.Rs2NpcModel;
+import net.runelite.client.plugins.microbot.util.player.Rs2Player;
+import net.runelite.client.plugins.microbot.util.tabs.Rs2Tab;
+import net.runelite.client.plugins.microbot.util.widget.Rs2Widget;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.awt.Rectangle;
+import java.awt.Shape;
+import java.awt.event.KeyEvent;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+@Singleton
+public class Rs2GameActions implements GameActions {
+
+    private static final int MAX_NAME_LENGTH = 12;
+
+    @Inject
+    private WidgetCache widgetCache;
+
+    @Inject
+    private SceneIndex sceneIndex;
+
+    @Override
+    public boolean interactNpc(String name, String action) {
+        NPC npc = sceneIndex.nearestNpc(name, Rs2Player.getWorldLocation());
+        return npc != null ? Rs2Npc.interact(new Rs2NpcModel(npc), action) : Rs2Npc.interact(name, action);
+    }
+
+    @Override
+    public boolean interactNpc(int npcId, String action) {
+        NPC npc = sceneIndex.nearestNpc(npcId, Rs2Player.getWorldLocation());
+        return npc != null ? Rs2Npc.interact(new Rs2NpcModel(npc), action) : Rs2Npc.interact(npcId, action);
+    }
+
+    @Override
+    public boolean interactObject(String name, String action) {
+        TileObject object = sceneIndex.nearestObject(name, Rs2Player.getWorldLocation());
+        return object != null ? Rs2GameObject.interact(object, action) : Rs2GameObject.interact(name, action);
+    }
+
+    @Override
+    public boolean interactObject(int objectId, String action) {
+        TileObject object = sceneIndex.nearestObject(objectId, Rs2Player.getWorldLocation());
+        return object != null ? Rs2GameObject.interact(object, action) : Rs2GameObject.interact(objectId, action);
+    }
+
+    @Override
+    public boolean combineItems(int firstItemId, int secondItemId) {
+        return Rs2Inventory.combine(firstItemId, secondItemId);
+    }
+
+    @Override
+    public boolean useItemOnObject(int itemId, String objectName) {
+        return Rs2Inventory.useItemOnObject(itemId, objectName);
+    }
+
+    @Override
+    public boolean wield(int itemId) {
+        return Rs2Inventory.wield(itemId);
+    }
+
+    @Override
+    public boolean openTab(GameTab tab) {
+        switch (tab) {
+            case COMBAT:
+                return Rs2Tab.switchToCombatOptionsTab();
+            case SKILLS:
+                return Rs2Tab.switchToSkillsTab();
+            case QUEST:
+                return Rs2Tab.switchToQuestTab();
+            case INVENTORY:
+                return Rs2Tab.switchToInventoryTab();
+            case EQUIPMENT:
+                return Rs2Tab.switchToEquipmentTab();
+            case PRAYER:
+                return Rs2Tab.switchToPrayerTab();
+            case MAGIC:
+                return Rs2Tab.switchToMagicTab();
+            case FRIENDS:
+                return Rs2Tab.switchToFriendsTab();
+            case ACCOUNT_MANAGEMENT:
+                return Rs2Tab.switchToAccountManagementTab();
+            case SETTINGS:
+                return Rs2Tab.switchToSettingsTab();
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    public boolean clickWidget(int groupId, int childId) {
+        Widget widget = widgetCache.get(groupId, childId);
+        if (widget == null) {
+            return false;
+        }
+
+        Rs2Widget.clickWidget(widget);
+        return true;
+    }
+
+    @Override
+    public boolean clickWidget(String text) {
+        return Rs2Widget.clickWidget(text);
+    }
+
+    @Override
+    public boolean typeName(String name) {
+        for (int i = 0; i < MAX_NAME_LENGTH; i++) {
+            Rs2Keyboard.keyPress(KeyEvent.VK_BACK_SPACE);
+        }
+        Rs2Keyboard.typeString(name);
+        return true;
+    }
+
+    @Override
+    public void continueDialogue() {
+        Rs2Keyboard.keyPress(KeyEvent.VK_SPACE);
+    }
+
+    @Override
+    public void selectDialogueOption(int option) {
+        Rs2Dialogue.keyPressForDialogueOption(option);
+    }
+
+    @Override
+    public void closeBank() {
+        Rs2Bank.closeBank();
+    }
+
+    @Override
+    public boolean castSpellOn(String spell, int npcId) {
+        return Rs2Magic.castOn(spell, npcId);
+    }
+
+    @Override
+    public void showMessage(String message) {
+        Microbot.log(message);
+    }
+
+    @Override
+    public List<WorldPoint> locate(GatheringResource resource) {
+        WorldPoint from = Rs2Player.getWorldLocation();
+        return resource.isNpc()
+            ? sceneIndex.locateNpcs(resource.getId(), from)
+            : sceneIndex.locateObjects(resource.getId(), from);
+    }
+
+    @Override
+    public boolean gatherAt(GatheringResource resource, WorldPoint location) {
+        if (location == null) {
+            return GameActions.super.gatherAt(resource, location);
+        }
+
+        if (resource.isNpc()) {
+            NPC npc = sceneIndex.npcAt(resource.getId(), location);
+            return npc != null
+                ? Rs2Npc.interact(new Rs2NpcModel(npc), resource.getAction())
+                : interactNpc(resource.getId(), resource.getAction());
+        }
+
+        TileObject object = sceneIndex.objectAt(resource.getId(), location);
+        return object != null && Rs2GameObject.interact(object, resource.getAction());
+    }
+
+    @Override
+    public void hover(GatheringResource resource, WorldPoint location) {
+        Rectangle bounds = Microbot.getClientThread()
+            .runOnClientThreadOptional(() -> hoverBounds(resource, location))
+            .orElse(null);
+        if (bounds != null) {
+            Microbot.getMouse().move((int) bounds.getCenterX(), (int) bounds.getCenterY());
+        }
+    }
+
+    @Override
+    public Integer attackUnengaged(int npcId) {
+        NPC target = Microbot.getClientThread()
+            .runOnClientThreadOptional(() -> selectUnengaged(npcId))
+            .orElse(null);
+        if (target == null) {
+            return sceneIndex.getNpcs(npcId).isEmpty() ? GameActions.super.attackUnengaged(npcId) : null;
+        }
+        return Rs2Npc.interact(new Rs2NpcModel(target), "Attack") ? target.getIndex() : null;
+    }
+
+    private NPC selectUnengaged(int npcId) {
+        Client client = Microbot.getClient();
+        Player local = client.getLocalPlayer();
+        if (local == null) {
+            return null;
+        }
+
+        Set<Actor> engaged = new HashSet<>();
+        for (Player player : client.getPlayers()) {
+            if (player != local && player.getInteracting() != null) {
+                engaged.add(player.getInteracting());
+            }
+        }
+
+        WorldPoint from = local.getWorldLocation();
+        NPC best = null;
+        int bestDistance = Integer.MAX_VALUE;
+        for (NPC npc : sceneIndex.getNpcs(npcId)) {
+            Actor interacting = npc.getInteracting();
+            if (npc.isDead() || engaged.contains(npc) || (interacting != null && interacting != local)) {
+                continue;
+            }
+
+            if (interacting == local) {
+                return npc;
+            }
+
+            int distance = from.distanceTo2D(npc.getWorldLocation());
+            if (distance < bestDistance) {
+                best = npc;
+                bestDistance = distance;
+            }
+        }
+        return best;
+    }
+
+    private Rectangle hoverBounds(GatheringResource resource, WorldPoint location) {
+        Shape shape;
+        if (resource.isNpc()) {
+            NPC npc = sceneIndex.npcAt(resource.getId(), location);
+            shape = npc == null ? null : npc.getConvexHull();
+        } else {
+            TileObject object = sceneIndex.objectAt(resource.getId(), location);
+            shape = object == null ? null : object.getClickbox();
+        }
+        return shape == null ? null : shape.getBounds();
+    }
+}
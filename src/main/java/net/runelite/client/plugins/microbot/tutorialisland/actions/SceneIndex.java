@@ -0,0 +1,296 @@
+package net.runelite.client.plugins.microbot.tutorialisland.actions;
+
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.api.Client;
+import net.runelite.api.GameObject;
+import net.runelite.api.NPC;
+import net.runelite.api.ObjectComposition;
+import net.runelite.api.Tile;
+import net.runelite.api.TileObject;
+import net.runelite.api.coords.WorldPoint;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Slf4j
+@Singleton
+public class SceneIndex {
+
+    private static final int REGION_SIZE = 64;
+
+    @Inject
+    private Client client;
+
+    private final Map<Integer, Map<Integer, Set<TileObject>>> objectsById = new ConcurrentHashMap<>();
+    private final Map<String, Set<Integer>> objectIdsByName = new ConcurrentHashMap<>();
+    private final Map<Integer, String> objectNames = new ConcurrentHashMap<>();
+
+    private final Map<Integer, Set<NPC>> npcsById = new ConcurrentHashMap<>();
+    private final Map<String, Set<NPC>> npcsByName = new ConcurrentHashMap<>();
+
+    public void rebuild() {
+        clear();
+
+        for (Tile[][] plane : client.getScene().getTiles()) {
+            for (Tile[] column : plane) {
+                for (Tile tile : column) {
+                    if (tile == null) {
+                        continue;
+                    }
+                    for (GameObject object : tile.getGameObjects()) {
+                        if (object != null && object.getSceneMinLocation().equals(tile.getSceneLocation())) {
+                            objectSpawned(object);
+                        }
+                    }
+                    if (tile.getWallObject() != null) {
+                        objectSpawned(tile.getWallObject());
+                    }
+                }
+            }
+        }
+
+        for (NPC npc : client.getNpcs()) {
+            npcSpawned(npc);
+        }
+        log.debug("Scene index rebuilt with {} object ids and {} npc ids", objectsById.size(), npcsById.size());
+    }
+
+    public void clear() {
+        clearObjects();
+        npcsById.clear();
+        npcsByName.clear();
+    }
+
+    public void clearObjects() {
+        objectsById.clear();
+    }
+
+    public void objectSpawned(TileObject object) {
+        int id = object.getId();
+        objectsById.computeIfAbsent(id, key -> new ConcurrentHashMap<>())
+            .computeIfAbsent(regionOf(object.getWorldLocation()), key -> ConcurrentHashMap.newKeySet())
+            .add(object);
+
+        if (!objectNames.containsKey(id)) {
+            ObjectComposition composition = client.getObjectDefinition(id);
+            String name = composition == null ? null : composition.getName();
+            String key = nameKey(name);
+            objectNames.put(id, key);
+            if (!key.isEmpty()) {
+                objectIdsByName.computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet()).add(id);
+            }
+        }
+    }
+
+    public void objectDespawned(TileObject object) {
+        Map<Integer, Set<TileObject>> regions = objectsById.get(object.getId());
+        if (regions == null) {
+            return;
+        }
+
+        Set<TileObject> bucket = regions.get(regionOf(object.getWorldLocation()));
+        if (bucket != null) {
+            bucket.remove(object);
+        }
+    }
+
+    public void npcSpawned(NPC npc) {
+        npcsById.computeIfAbsent(npc.getId(), key -> ConcurrentHashMap.newKeySet()).add(npc);
+        String key = nameKey(npc.getName());
+        if (!key.isEmpty()) {
+            npcsByName.computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet()).add(npc);
+        }
+    }
+
+    public void npcDespawned(NPC npc) {
+        Set<NPC> byId = npcsById.get(npc.getId());
+        if (byId != null) {
+            byId.remove(npc);
+        }
+
+        Set<NPC> byName = npcsByName.get(nameKey(npc.getName()));
+        if (byName != null) {
+            byName.remove(npc);
+        }
+    }
+
+    public TileObject nearestObject(int id, WorldPoint from) {
+        Map<Integer, Set<TileObject>> regions = objectsById.get(id);
+        if (regions == null || from == null) {
+            return null;
+        }
+
+        int home = regionOf(from);
+        TileObject best = nearestIn(regions.get(home), from, null);
+        int bestDistance = best == null ? Integer.MAX_VALUE : from.distanceTo2D(best.getWorldLocation());
+
+        for (Map.Entry<Integer, Set<TileObject>> region : regions.entrySet()) {
+            if (region.getKey() == home || regionDistance(region.getKey(), from) >= bestDistance) {
+                continue;
+            }
+            TileObject candidate = nearestIn(region.getValue(), from, best);
+            if (candidate != best) {
+                best = candidate;
+                bestDistance = from.distanceTo2D(best.getWorldLocation());
+            }
+        }
+        return best;
+    }
+
+    public TileObject nearestObject(String name, WorldPoint from) {
+        Set<Integer> ids = objectIdsByName.get(nameKey(name));
+        if (ids == null) {
+            return null;
+        }
+
+        TileObject best = null;
+        for (int id : ids) {
+            best = closer(from, best, nearestObject(id, from));
+        }
+        return best;
+    }
+
+    public List<WorldPoint> locateObjects(int id, WorldPoint from) {
+        Map<Integer, Set<TileObject>> regions = objectsById.get(id);
+        if (regions == null || from == null) {
+            return Collections.emptyList();
+        }
+
+        List<WorldPoint> found = new ArrayList<>();
+        for (Set<TileObject> bucket : regions.values()) {
+            for (TileObject object : bucket) {
+                WorldPoint location = object.getWorldLocation();
+                if (location.getPlane() == from.getPlane() && !found.contains(location)) {
+                    found.add(location);
+                }
+            }
+        }
+        found.sort(Comparator.comparingInt(from::distanceTo2D));
+        return found;
+    }
+
+    public TileObject objectAt(int id, WorldPoint location) {
+        Map<Integer, Set<TileObject>> regions = objectsById.get(id);
+        Set<TileObject> bucket = regions == null ? null : regions.get(regionOf(location));
+        if (bucket == null) {
+            return null;
+        }
+
+        for (TileObject object : bucket) {
+            if (object.getWorldLocation().equals(location)) {
+                return object;
+            }
+        }
+        return null;
+    }
+
+    public Set<NPC> getNpcs(int id) {
+        Set<NPC> npcs = npcsById.get(id);
+        return npcs == null ? Collections.emptySet() : Collections.unmodifiableSet(npcs);
+    }
+
+    public NPC nearestNpc(int id, WorldPoint from) {
+        return nearestNpc(npcsById.get(id), from);
+    }
+
+    public NPC nearestNpc(String name, WorldPoint from) {
+        return nearestNpc(npcsByName.get(nameKey(name)), from);
+    }
+
+    public List<WorldPoint> locateNpcs(int id, WorldPoint from) {
+        Set<NPC> npcs = npcsById.get(id);
+        if (npcs == null || from == null) {
+            return Collections.emptyList();
+        }
+
+        List<WorldPoint> found = new ArrayList<>(npcs.size());
+        for (NPC npc : npcs) {
+            WorldPoint location = npc.getWorldLocation();
+            if (location != null && location.getPlane() == from.getPlane()) {
+                found.add(location);
+            }
+        }
+        found.sort(Comparator.comparingInt(from::distanceTo2D));
+        return found;
+    }
+
+    public NPC npcAt(int id, WorldPoint location) {
+        Set<NPC> npcs = npcsById.get(id);
+        if (npcs == null) {
+            return null;
+        }
+
+        for (NPC npc : npcs) {
+            if (location.equals(npc.getWorldLocation())) {
+                return npc;
+            }
+        }
+        return null;
+    }
+
+    private static NPC nearestNpc(Set<NPC> npcs, WorldPoint from) {
+        if (npcs == null || from == null) {
+            return null;
+        }
+
+        NPC best = null;
+        int bestDistance = Integer.MAX_VALUE;
+        for (NPC npc : npcs) {
+            WorldPoint location = npc.getWorldLocation();
+            if (location == null || location.getPlane() != from.getPlane() || npc.isDead()) {
+                continue;
+            }
+            int distance = from.distanceTo2D(location);
+            if (distance < bestDistance) {
+                best = npc;
+                bestDistance = distance;
+            }
+        }
+        return best;
+    }
+
+    private static TileObject nearestIn(Set<TileObject> bucket, WorldPoint from, TileObject best) {
+        if (bucket == null) {
+            return best;
+        }
+
+        for (TileObject object : bucket) {
+            best = closer(from, best, object);
+        }
+        return best;
+    }
+
+    private static TileObject closer(WorldPoint from, TileObject current, TileObject candidate) {
+        if (candidate == null || candidate.getWorldLocation().getPlane() != from.getPlane()) {
+            return current;
+        }
+        if (current == null) {
+            return candidate;
+        }
+        return from.distanceTo2D(candidate.getWorldLocation()) < from.distanceTo2D(current.getWorldLocation())
+            ? candidate : current;
+    }
+
+    private static int regionOf(WorldPoint location) {
+        return location.getRegionID();
+    }
+
+    private static int regionDistance(int regionId, WorldPoint from) {
+        int minX = (regionId >> 8) * REGION_SIZE;
+        int minY = (regionId & 0xFF) * REGION_SIZE;
+        int dx = Math.max(0, Math.max(minX - from.getX(), from.getX() - (minX + REGION_SIZE - 1)));
+        int dy = Math.max(0, Math.max(minY - from.getY(), from.getY() - (minY + REGION_SIZE - 1)));
+        return Math.max(dx, dy);
+    }
+
+    private static String nameKey(String name) {
+        return name == null || "null".equals(name) ? "" : name.toLowerCase();
+    }
+}
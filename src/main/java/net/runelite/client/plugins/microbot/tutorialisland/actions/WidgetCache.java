@@ -0,0 +1,179 @@
+package net.runelite.client.plugins.microbot.tutorialisland.actions;
+
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.api.Client;
+import net.runelite.api.widgets.Widget;
+import net.runelite.client.plugins.microbot.Microbot;
+import net.runelite.client.plugins.microbot.util.widget.Rs2Widget;
+import net.runelite.client.util.Text;
+
+import javax.inject.Singleton;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Slf4j
+@Singleton
+public class WidgetCache {
+
+    private static final int NO_CHILD = -1;
+    private static final int MAX_GROUP_CHILDREN = 128;
+
+    private final Map<Integer, Map<Long, Widget>> groups = new ConcurrentHashMap<>();
+    private final Map<Integer, Map<String, Widget>> texts = new ConcurrentHashMap<>();
+
+    public Widget get(int groupId, int childId) {
+        return getChild(groupId, childId, NO_CHILD);
+    }
+
+    public Widget getChild(int groupId, int childId, int childIndex) {
+        Map<Long, Widget> handles = groups.computeIfAbsent(groupId, id -> new ConcurrentHashMap<>());
+        long key = key(childId, childIndex);
+
+        Widget cached = handles.get(key);
+        if (cached != null && isValid(cached, groupId, childId, childIndex)) {
+            return cached;
+        }
+
+        Widget resolved = resolve(groupId, childId, childIndex);
+        if (resolved != null) {
+            handles.put(key, resolved);
+        } else {
+            handles.remove(key);
+        }
+        return resolved;
+    }
+
+    public Widget find(int groupId, String text) {
+        Map<String, Widget> handles = texts.computeIfAbsent(groupId, id -> new ConcurrentHashMap<>());
+        String key = text.toLowerCase();
+
+        Widget cached = handles.get(key);
+        if (cached != null && matches(cached, key)) {
+            return cached;
+        }
+
+        Widget resolved = Microbot.getClientThread()
+            .runOnClientThreadOptional(() -> search(groupId, key))
+            .orElse(null);
+        if (resolved != null) {
+            handles.put(key, resolved);
+        } else {
+            handles.remove(key);
+        }
+        return resolved;
+    }
+
+    public void preload(int groupId, int... childIds) {
+        preloadChildren(groupId, NO_CHILD, childIds);
+    }
+
+    public void preloadChildren(int groupId, int childIndex, int... childIds) {
+        int resolved = 0;
+        for (int childId : childIds) {
+            if (getChild(groupId, childId, childIndex) != null) {
+                resolved++;
+            }
+        }
+        log.debug("Pre-resolved {}/{} widgets in group {}", resolved, childIds.length, groupId);
+    }
+
+    public void invalidate(int groupId) {
+        groups.remove(groupId);
+        texts.remove(groupId);
+    }
+
+    public void invalidateAll() {
+        groups.clear();
+        texts.clear();
+    }
+
+    private static Widget search(int groupId, String text) {
+        Client client = Microbot.getClient();
+        for (int childId = 0; childId < MAX_GROUP_CHILDREN; childId++) {
+            Widget root = client.getWidget(groupId, childId);
+            if (root == null) {
+                continue;
+            }
+
+            Widget match = searchTree(root, text);
+            if (match != null) {
+                return match;
+            }
+        }
+        return null;
+    }
+
+    private static Widget searchTree(Widget widget, String text) {
+        if (widget.isHidden()) {
+            return null;
+        }
+
+        if (matches(widget, text)) {
+            return widget;
+        }
+
+        Widget match = searchChildren(widget.getDynamicChildren(), text);
+        if (match == null) {
+            match = searchChildren(widget.getStaticChildren(), text);
+        }
+        if (match == null) {
+            match = searchChildren(widget.getNestedChildren(), text);
+        }
+        return match;
+    }
+
+    private static Widget searchChildren(Widget[] children, String text) {
+        if (children == null) {
+            return null;
+        }
+
+        for (Widget child : children) {
+            if (child == null) {
+                continue;
+            }
+
+            Widget match = searchTree(child, text);
+            if (match != null) {
+                return match;
+            }
+        }
+        return null;
+    }
+
+    private static boolean matches(Widget widget, String text) {
+        if (matchesText(widget.getText(), text) || matchesText(widget.getName(), text)) {
+            return true;
+        }
+
+        String[] actions = widget.getActions();
+        if (actions != null) {
+            for (String action : actions) {
+                if (matchesText(action, text)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean matchesText(String value, String text) {
+        return value != null && !value.isEmpty() && Text.removeTags(value).trim().equalsIgnoreCase(text);
+    }
+
+    private static Widget resolve(int groupId, int childId, int childIndex) {
+        Widget widget = Rs2Widget.getWidget(groupId, childId);
+        if (widget == null || childIndex == NO_CHILD) {
+            return widget;
+        }
+        return widget.getChild(childIndex);
+    }
+
+    private static boolean isValid(Widget widget, int groupId, int childId, int childIndex) {
+        int expectedId = groupId << 16 | childId;
+        return childIndex == NO_CHILD ? widget.getId() == expectedId : widget.getIndex() == childIndex;
+    }
+
+    private static long key(int childId, int childIndex) {
+        return (long) childId << 32 | (childIndex & 0xFFFFFFFFL);
+    }
+}
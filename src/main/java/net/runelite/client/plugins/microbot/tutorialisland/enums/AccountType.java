@@ -0,0 +1,35 @@
+package net.runelite.client.plugins.microbot.tutorialisland.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum AccountType {
+    NORMAL("Regular Account", 0, "Standard", 11),
+    IRONMAN("Ironman", 1, "Ironman", 12),
+    ULTIMATE_IRONMAN("Ultimate Ironman", 2, "Ultimate Ironman", 14),
+    HARDCORE_IRONMAN("Hardcore Ironman", 3, "Hardcore Ironman", 13),
+    GROUP_IRONMAN("Group Ironman", 4, "Group Ironman", -1),
+    HARDCORE_GROUP_IRONMAN("Hardcore Group Ironman", 5, "Hardcore Group Ironman", -1),
+    UNRANKED_GROUP_IRONMAN("Unranked Group Ironman", 6, "Unranked Group Ironman", -1);
+
+    private final String displayName;
+    private final int varbitValue;
+    private final String optionText;
+    private final int legacyChildId;
+
+    public static AccountType fromVarbit(int value) {
+        for (AccountType type : values()) {
+            if (type.varbitValue == value) {
+                return type;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public String toString() {
+        return displayName;
+    }
+}
@@ -0,0 +1,89 @@
+package net.runelite.client.plugins.microbot.tutorialisland.enums;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import net.runelite.api.kit.KitType;
+import net.runelite.client.plugins.microbot.globval.WidgetIndices;
+
+@Getter
+@RequiredArgsConstructor
+public enum AppearanceSlot {
+    HEAD("Head", WidgetIndices.CharacterCreator.DESIGN_HEAD_BUTTON_ARROW_LEFT_DYNAMIC_CONTAINER,
+        WidgetIndices.CharacterCreator.DESIGN_HEAD_BUTTON_ARROW_RIGHT_DYNAMIC_CONTAINER, KitType.HEAD, -1,
+        range(0, 8), range(45, 54)),
+    JAW("Jaw", WidgetIndices.CharacterCreator.DESIGN_JAW_BUTTON_ARROW_LEFT_DYNAMIC_CONTAINER,
+        WidgetIndices.CharacterCreator.DESIGN_JAW_BUTTON_ARROW_RIGHT_DYNAMIC_CONTAINER, KitType.JAW, -1,
+        range(10, 17), new int[0]),
+    TORSO("Torso", WidgetIndices.CharacterCreator.DESIGN_TORSO_BUTTON_ARROW_LEFT_DYNAMIC_CONTAINER,
+        WidgetIndices.CharacterCreator.DESIGN_TORSO_BUTTON_ARROW_RIGHT_DYNAMIC_CONTAINER, KitType.TORSO, -1,
+        range(18, 25), range(56, 60)),
+    ARMS("Arms", WidgetIndices.CharacterCreator.DESIGN_ARMS_BUTTON_ARROW_LEFT_DYNAMIC_CONTAINER,
+        WidgetIndices.CharacterCreator.DESIGN_ARMS_BUTTON_ARROW_RIGHT_DYNAMIC_CONTAINER, KitType.ARMS, -1,
+        range(26, 31), range(61, 65)),
+    HANDS("Hands", WidgetIndices.CharacterCreator.DESIGN_HANDS_BUTTON_ARROW_LEFT_DYNAMIC_CONTAINER,
+        WidgetIndices.CharacterCreator.DESIGN_HANDS_BUTTON_ARROW_RIGHT_DYNAMIC_CONTAINER, KitType.HANDS, -1,
+        range(33, 34), range(67, 68)),
+    LEGS("Legs", WidgetIndices.CharacterCreator.DESIGN_LEGS_BUTTON_ARROW_LEFT_DYNAMIC_CONTAINER,
+        WidgetIndices.CharacterCreator.DESIGN_LEGS_BUTTON_ARROW_RIGHT_DYNAMIC_CONTAINER, KitType.LEGS, -1,
+        range(36, 41), range(70, 77)),
+    FEET("Feet", WidgetIndices.CharacterCreator.DESIGN_FEET_BUTTON_ARROW_LEFT_DYNAMIC_CONTAINER,
+        WidgetIndices.CharacterCreator.DESIGN_FEET_BUTTON_ARROW_RIGHT_DYNAMIC_CONTAINER, KitType.BOOTS, -1,
+        range(42, 43), range(79, 80)),
+    HAIR_COLOUR("Hair", WidgetIndices.CharacterCreator.COLOUR_HAIR_BUTTON_ARROW_LEFT_DYNAMIC_CONTAINER,
+        WidgetIndices.CharacterCreator.COLOUR_HAIR_BUTTON_ARROW_RIGHT_DYNAMIC_CONTAINER, null, 0,
+        range(0, 24), range(0, 24)),
+    TORSO_COLOUR("Torso", WidgetIndices.CharacterCreator.COLOUR_TORSO_BUTTON_ARROW_LEFT_DYNAMIC_CONTAINER,
+        WidgetIndices.CharacterCreator.COLOUR_TORSO_BUTTON_ARROW_RIGHT_DYNAMIC_CONTAINER, null, 1,
+        range(0, 28), range(0, 28)),
+    LEGS_COLOUR("Legs", WidgetIndices.CharacterCreator.COLOUR_LEGS_BUTTON_ARROW_LEFT_DYNAMIC_CONTAINER,
+        WidgetIndices.CharacterCreator.COLOUR_LEGS_BUTTON_ARROW_RIGHT_DYNAMIC_CONTAINER, null, 2,
+        range(0, 28), range(0, 28)),
+    FEET_COLOUR("Feet", WidgetIndices.CharacterCreator.COLOUR_FEET_BUTTON_ARROW_LEFT_DYNAMIC_CONTAINER,
+        WidgetIndices.CharacterCreator.COLOUR_FEET_BUTTON_ARROW_RIGHT_DYNAMIC_CONTAINER, null, 3,
+        range(0, 5), range(0, 5)),
+    SKIN_COLOUR("Skin", WidgetIndices.CharacterCreator.COLOUR_SKIN_BUTTON_ARROW_LEFT_DYNAMIC_CONTAINER,
+        WidgetIndices.CharacterCreator.COLOUR_SKIN_BUTTON_ARROW_RIGHT_DYNAMIC_CONTAINER, null, 4,
+        range(0, 7), range(0, 7));
+
+    private final String displayName;
+    private final int leftArrow;
+    private final int rightArrow;
+    private final KitType kitType;
+    private final int colourIndex;
+
+    @Getter(AccessLevel.NONE)
+    private final int[] maleOptions;
+    @Getter(AccessLevel.NONE)
+    private final int[] femaleOptions;
+
+    public boolean isColour() {
+        return kitType == null;
+    }
+
+    public int getOptionCount(Gender gender) {
+        return options(gender).length;
+    }
+
+    public int indexOf(Gender gender, int value) {
+        int[] options = options(gender);
+        for (int i = 0; i < options.length; i++) {
+            if (options[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private int[] options(Gender gender) {
+        return gender == Gender.MALE ? maleOptions : femaleOptions;
+    }
+
+    private static int[] range(int first, int last) {
+        int[] values = new int[last - first + 1];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = first + i;
+        }
+        return values;
+    }
+}
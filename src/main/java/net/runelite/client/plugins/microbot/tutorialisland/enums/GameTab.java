@@ -0,0 +1,21 @@
+package net.runelite.client.plugins.microbot.tutorialisland.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum GameTab {
+    COMBAT("Combat Options"),
+    SKILLS("Skills"),
+    QUEST("Quest List"),
+    INVENTORY("Inventory"),
+    EQUIPMENT("Worn Equipment"),
+    PRAYER("Prayer"),
+    MAGIC("Magic"),
+    FRIENDS("Friends List"),
+    ACCOUNT_MANAGEMENT("Account Management"),
+    SETTINGS("Settings");
+
+    private final String displayName;
+}
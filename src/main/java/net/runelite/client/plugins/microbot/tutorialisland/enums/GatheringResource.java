@@ -0,0 +1,18 @@
+package net.runelite.client.plugins.microbot.tutorialisland.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum GatheringResource {
+    TREE("Tree", 9730, "Chop down", false),
+    FISHING_SPOT("Fishing spot", 10091, "Net", true),
+    COPPER_ROCKS("Copper rocks", 10079, "Mine", false),
+    TIN_ROCKS("Tin rocks", 10080, "Mine", false);
+
+    private final String displayName;
+    private final int id;
+    private final String action;
+    private final boolean npc;
+}
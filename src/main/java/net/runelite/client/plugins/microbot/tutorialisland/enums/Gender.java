@@ -0,0 +1,30 @@
+package net.runelite.client.plugins.microbot.tutorialisland.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import net.runelite.client.plugins.microbot.globval.WidgetIndices;
+
+@Getter
+@RequiredArgsConstructor
+public enum Gender {
+    MALE("Male", 'M', WidgetIndices.CharacterCreator.GENDER_BUTTON_MALE_DYNAMIC_CONTAINER),
+    FEMALE("Female", 'F', WidgetIndices.CharacterCreator.GENDER_BUTTON_FEMALE_DYNAMIC_CONTAINER);
+
+    private final String displayName;
+    private final char code;
+    private final int buttonChildId;
+
+    public static Gender fromCode(char code) {
+        for (Gender gender : values()) {
+            if (gender.code == Character.toUpperCase(code)) {
+                return gender;
+            }
+        }
+        throw new IllegalArgumentException("Unknown gender code " + code);
+    }
+
+    @Override
+    public String toString() {
+        return displayName;
+    }
+}
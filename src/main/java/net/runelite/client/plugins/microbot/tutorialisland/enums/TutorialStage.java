@@ -6,32 +6,53 @@ import lombok.RequiredArgsConstructor;
 @Getter
 @RequiredArgsConstructor
 public enum TutorialStage {
-    
-    NOT_STARTED("Not Started", 0, 2),
-    CHARACTER_CREATION("Character Creation", 0, 2),
-    GIELINOR_GUIDE("Gielinor Guide", 3, 40),
-    SURVIVAL_EXPERT("Survival Expert", 50, 120),
-    MASTER_CHEF("Master Chef", 130, 200),
-    QUEST_GUIDE("Quest Guide", 210, 280),
-    MINING_INSTRUCTOR("Mining Instructor", 300, 390),
-    COMBAT_INSTRUCTOR("Combat Instructor", 400, 520),
-    FINANCIAL_ADVISOR("Financial Advisor", 525, 560),
-    BROTHER_BRACE("Brother Brace", 570, 620),
-    MAGIC_INSTRUCTOR("Magic Instructor", 630, 670),
-    FINAL_INSTRUCTOR("Final Instructor", 680, 999),
-    COMPLETED("Completed", 1000, Integer.MAX_VALUE);
+
+    NOT_STARTED("Not Started", 0, 0, 0),
+    CHARACTER_CREATION("Character Creation", 1, 1, 0),
+    GIELINOR_GUIDE("Gielinor Guide", 2, 19, 1),
+    SURVIVAL_EXPERT("Survival Expert", 20, 129, 2),
+    MASTER_CHEF("Master Chef", 130, 199, 3),
+    QUEST_GUIDE("Quest Guide", 200, 259, 4),
+    MINING_INSTRUCTOR("Mining Instructor", 260, 369, 5),
+    COMBAT_INSTRUCTOR("Combat Instructor", 370, 509, 6),
+    FINANCIAL_ADVISOR("Financial Advisor", 510, 549, 7),
+    BROTHER_BRACE("Brother Brace", 550, 619, 8),
+    MAGIC_INSTRUCTOR("Magic Instructor", 620, 679, 9),
+    FINAL_INSTRUCTOR("Final Instructor", 680, 999, 10),
+    COMPLETED("Completed", 1000, Integer.MAX_VALUE, 12);
+
+    public static final int TOTAL_STAGES = 12;
+
+    private static final TutorialStage[] STAGES = values();
+    private static final int LOOKUP_SIZE = 1001;
+    private static final TutorialStage[] STAGE_BY_VARBIT = new TutorialStage[LOOKUP_SIZE];
+
+    static {
+        TutorialStage current = NOT_STARTED;
+        for (int varbit = 0; varbit < LOOKUP_SIZE; varbit++) {
+            for (TutorialStage stage : STAGES) {
+                if (varbit >= stage.minVarbit && varbit <= stage.maxVarbit) {
+                    current = stage;
+                    break;
+                }
+            }
+            STAGE_BY_VARBIT[varbit] = current;
+        }
+    }
 
     private final String displayName;
     private final int minVarbit;
     private final int maxVarbit;
+    private final int stageNumber;
 
     public static TutorialStage fromVarbit(int varbitValue) {
-        for (TutorialStage stage : values()) {
-            if (varbitValue >= stage.minVarbit && varbitValue <= stage.maxVarbit) {
-                return stage;
-            }
+        if (varbitValue < 0) {
+            return NOT_STARTED;
+        }
+        if (varbitValue >= LOOKUP_SIZE) {
+            return COMPLETED;
         }
-        return NOT_STARTED;
+        return STAGE_BY_VARBIT[varbitValue];
     }
 
     public boolean isBefore(TutorialStage other) {
@@ -44,7 +65,6 @@ public enum TutorialStage {
 
     public TutorialStage getNext() {
         int nextOrdinal = this.ordinal() + 1;
-        TutorialStage[] stages = values();
-        return nextOrdinal < stages.length ? stages[nextOrdinal] : COMPLETED;
+        return nextOrdinal < STAGES.length ? STAGES[nextOrdinal] : COMPLETED;
     }
 }
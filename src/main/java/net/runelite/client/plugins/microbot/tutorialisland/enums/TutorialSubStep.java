@@ -0,0 +1,116 @@
+package net.runelite.client.plugins.microbot.tutorialisland.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum TutorialSubStep {
+
+    NONE(TutorialStage.NOT_STARTED, 0, "Waiting"),
+    CREATE_CHARACTER(TutorialStage.CHARACTER_CREATION, 1, "Create character"),
+
+    TALK_TO_GIELINOR_GUIDE(TutorialStage.GIELINOR_GUIDE, 2, "Talk to Gielinor Guide"),
+    OPEN_SETTINGS_TAB(TutorialStage.GIELINOR_GUIDE, 3, "Open settings"),
+    TALK_TO_GIELINOR_GUIDE_AGAIN(TutorialStage.GIELINOR_GUIDE, 7, "Talk to Gielinor Guide"),
+    EXIT_GUIDE_HOUSE(TutorialStage.GIELINOR_GUIDE, 10, "Leave the house"),
+
+    TALK_TO_SURVIVAL_EXPERT(TutorialStage.SURVIVAL_EXPERT, 20, "Talk to Survival Expert"),
+    OPEN_INVENTORY_TAB(TutorialStage.SURVIVAL_EXPERT, 30, "Open inventory"),
+    FISH_SHRIMP(TutorialStage.SURVIVAL_EXPERT, 40, "Fish shrimp"),
+    OPEN_SKILLS_TAB(TutorialStage.SURVIVAL_EXPERT, 50, "Open skills"),
+    TALK_TO_SURVIVAL_EXPERT_AGAIN(TutorialStage.SURVIVAL_EXPERT, 60, "Talk to Survival Expert"),
+    CHOP_TREE(TutorialStage.SURVIVAL_EXPERT, 70, "Chop tree"),
+    LIGHT_FIRE(TutorialStage.SURVIVAL_EXPERT, 80, "Light fire"),
+    COOK_SHRIMP(TutorialStage.SURVIVAL_EXPERT, 90, "Cook shrimp"),
+    EXIT_SURVIVAL_AREA(TutorialStage.SURVIVAL_EXPERT, 120, "Open gate"),
+
+    ENTER_KITCHEN(TutorialStage.MASTER_CHEF, 130, "Enter kitchen"),
+    TALK_TO_MASTER_CHEF(TutorialStage.MASTER_CHEF, 140, "Talk to Master Chef"),
+    MAKE_BREAD_DOUGH(TutorialStage.MASTER_CHEF, 150, "Make dough"),
+    COOK_BREAD(TutorialStage.MASTER_CHEF, 160, "Bake bread"),
+    EXIT_KITCHEN(TutorialStage.MASTER_CHEF, 170, "Leave kitchen"),
+
+    ENTER_QUEST_HOUSE(TutorialStage.QUEST_GUIDE, 200, "Enter quest house"),
+    TALK_TO_QUEST_GUIDE(TutorialStage.QUEST_GUIDE, 220, "Talk to Quest Guide"),
+    OPEN_QUEST_TAB(TutorialStage.QUEST_GUIDE, 230, "Open quest journal"),
+    TALK_TO_QUEST_GUIDE_AGAIN(TutorialStage.QUEST_GUIDE, 240, "Talk to Quest Guide"),
+    CLIMB_DOWN_TO_MINE(TutorialStage.QUEST_GUIDE, 250, "Climb down ladder"),
+
+    TALK_TO_MINING_INSTRUCTOR(TutorialStage.MINING_INSTRUCTOR, 260, "Talk to Mining Instructor"),
+    MINE_TIN(TutorialStage.MINING_INSTRUCTOR, 300, "Mine tin"),
+    MINE_COPPER(TutorialStage.MINING_INSTRUCTOR, 310, "Mine copper"),
+    SMELT_BRONZE_BAR(TutorialStage.MINING_INSTRUCTOR, 320, "Smelt bar"),
+    TALK_TO_MINING_INSTRUCTOR_AGAIN(TutorialStage.MINING_INSTRUCTOR, 330, "Talk to Mining Instructor"),
+    OPEN_ANVIL(TutorialStage.MINING_INSTRUCTOR, 340, "Use anvil"),
+    SMITH_DAGGER(TutorialStage.MINING_INSTRUCTOR, 350, "Smith dagger"),
+    EXIT_MINE(TutorialStage.MINING_INSTRUCTOR, 360, "Open gate"),
+
+    TALK_TO_COMBAT_INSTRUCTOR(TutorialStage.COMBAT_INSTRUCTOR, 370, "Talk to Combat Instructor"),
+    OPEN_EQUIPMENT_TAB(TutorialStage.COMBAT_INSTRUCTOR, 390, "Open equipment"),
+    OPEN_EQUIPMENT_STATS(TutorialStage.COMBAT_INSTRUCTOR, 400, "Open equipment stats"),
+    EQUIP_DAGGER(TutorialStage.COMBAT_INSTRUCTOR, 405, "Equip dagger"),
+    TALK_TO_COMBAT_INSTRUCTOR_AGAIN(TutorialStage.COMBAT_INSTRUCTOR, 410, "Talk to Combat Instructor"),
+    EQUIP_SWORD_AND_SHIELD(TutorialStage.COMBAT_INSTRUCTOR, 420, "Equip sword and shield"),
+    OPEN_COMBAT_TAB(TutorialStage.COMBAT_INSTRUCTOR, 430, "Open combat options"),
+    ENTER_RAT_PEN(TutorialStage.COMBAT_INSTRUCTOR, 440, "Enter rat pen"),
+    ATTACK_RAT(TutorialStage.COMBAT_INSTRUCTOR, 450, "Attack rat"),
+    KILL_RAT(TutorialStage.COMBAT_INSTRUCTOR, 460, "Kill rat"),
+    TALK_TO_COMBAT_INSTRUCTOR_AFTER_MELEE(TutorialStage.COMBAT_INSTRUCTOR, 470, "Talk to Combat Instructor"),
+    SHOOT_RAT(TutorialStage.COMBAT_INSTRUCTOR, 480, "Shoot rat"),
+    KILL_RAT_RANGED(TutorialStage.COMBAT_INSTRUCTOR, 490, "Kill rat with ranged"),
+    CLIMB_UP_FROM_MINE(TutorialStage.COMBAT_INSTRUCTOR, 500, "Climb ladder"),
+
+    OPEN_BANK(TutorialStage.FINANCIAL_ADVISOR, 510, "Open bank"),
+    OPEN_POLL_BOOTH(TutorialStage.FINANCIAL_ADVISOR, 520, "Use poll booth"),
+    ENTER_ACCOUNT_GUIDE_ROOM(TutorialStage.FINANCIAL_ADVISOR, 525, "Open door"),
+    TALK_TO_ACCOUNT_GUIDE(TutorialStage.FINANCIAL_ADVISOR, 530, "Talk to Account Guide"),
+    OPEN_ACCOUNT_TAB(TutorialStage.FINANCIAL_ADVISOR, 531, "Open account management"),
+    TALK_TO_ACCOUNT_GUIDE_AGAIN(TutorialStage.FINANCIAL_ADVISOR, 532, "Talk to Account Guide"),
+    EXIT_BANK(TutorialStage.FINANCIAL_ADVISOR, 540, "Leave bank"),
+
+    TALK_TO_BROTHER_BRACE(TutorialStage.BROTHER_BRACE, 550, "Talk to Brother Brace"),
+    OPEN_PRAYER_TAB(TutorialStage.BROTHER_BRACE, 560, "Open prayer"),
+    TALK_TO_BROTHER_BRACE_AGAIN(TutorialStage.BROTHER_BRACE, 570, "Talk to Brother Brace"),
+    OPEN_FRIENDS_TAB(TutorialStage.BROTHER_BRACE, 580, "Open friends list"),
+    TALK_TO_BROTHER_BRACE_FINAL(TutorialStage.BROTHER_BRACE, 600, "Talk to Brother Brace"),
+    EXIT_CHAPEL(TutorialStage.BROTHER_BRACE, 610, "Leave chapel"),
+
+    TALK_TO_MAGIC_INSTRUCTOR(TutorialStage.MAGIC_INSTRUCTOR, 620, "Talk to Magic Instructor"),
+    OPEN_MAGIC_TAB(TutorialStage.MAGIC_INSTRUCTOR, 630, "Open magic"),
+    TALK_TO_MAGIC_INSTRUCTOR_AGAIN(TutorialStage.MAGIC_INSTRUCTOR, 640, "Talk to Magic Instructor"),
+    CAST_WIND_STRIKE(TutorialStage.MAGIC_INSTRUCTOR, 650, "Cast Wind Strike"),
+    LEAVE_ISLAND(TutorialStage.MAGIC_INSTRUCTOR, 670, "Talk to Magic Instructor"),
+
+    FINISH_TUTORIAL(TutorialStage.FINAL_INSTRUCTOR, 680, "Finish tutorial"),
+    COMPLETED(TutorialStage.COMPLETED, 1000, "Completed");
+
+    private static final TutorialSubStep[] SUB_STEPS = values();
+    private static final int LOOKUP_SIZE = 1001;
+    private static final TutorialSubStep[] SUB_STEP_BY_VARBIT = new TutorialSubStep[LOOKUP_SIZE];
+
+    static {
+        int next = 0;
+        TutorialSubStep current = NONE;
+        for (int varbit = 0; varbit < LOOKUP_SIZE; varbit++) {
+            while (next < SUB_STEPS.length && SUB_STEPS[next].varbit <= varbit) {
+                current = SUB_STEPS[next++];
+            }
+            SUB_STEP_BY_VARBIT[varbit] = current;
+        }
+    }
+
+    private final TutorialStage stage;
+    private final int varbit;
+    private final String description;
+
+    public static TutorialSubStep fromVarbit(int varbitValue) {
+        if (varbitValue < 0) {
+            return NONE;
+        }
+        if (varbitValue >= LOOKUP_SIZE) {
+            return COMPLETED;
+        }
+        return SUB_STEP_BY_VARBIT[varbitValue];
+    }
+}
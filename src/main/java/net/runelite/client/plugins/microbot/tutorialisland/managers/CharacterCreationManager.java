@@ -1,14 +1,24 @@
 package net.runelite.client.plugins.microbot.tutorialisland.managers;
 
 import lombok.extern.slf4j.Slf4j;
+import net.runelite.api.Client;
+import net.runelite.api.Player;
+import net.runelite.api.PlayerComposition;
 import net.runelite.api.widgets.Widget;
 import net.runelite.client.plugins.microbot.Microbot;
 import net.runelite.client.plugins.microbot.globval.WidgetIndices;
+import net.runelite.client.plugins.microbot.tutorialisland.TutorialIslandConfig;
+import net.runelite.client.plugins.microbot.tutorialisland.actions.WidgetCache;
+import net.runelite.client.plugins.microbot.tutorialisland.enums.AppearanceSlot;
+import net.runelite.client.plugins.microbot.tutorialisland.enums.Gender;
+import net.runelite.client.plugins.microbot.tutorialisland.models.AppearancePlan;
+import net.runelite.client.plugins.microbot.tutorialisland.models.TutorialSession;
 import net.runelite.client.plugins.microbot.util.math.Rs2Random;
 import net.runelite.client.plugins.microbot.util.widget.Rs2Widget;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
+import java.util.concurrent.ThreadLocalRandom;
 
 import static net.runelite.client.plugins.microbot.util.Global.sleep;
 import static net.runelite.client.plugins.microbot.util.Global.sleepUntil;
@@ -20,218 +30,219 @@ public class CharacterCreationManager {
     @Inject
     private ErrorRecoveryManager errorRecovery;
 
+    @Inject
+    private WidgetCache widgetCache;
+
     private static final int CHARACTER_CREATOR_WIDGET_ID = WidgetIndices.CharacterCreator.GROUP_INDEX;
-    private static final int GENDER_FEMALE_BUTTON = WidgetIndices.CharacterCreator.GENDER_BUTTON_FEMALE_DYNAMIC_CONTAINER;
     private static final int CONFIRM_BUTTON = WidgetIndices.CharacterCreator.CONFIRM_BUTTON_DYNAMIC_CONTAINER;
 
-    private static final int HEAD_ARROW_LEFT = WidgetIndices.CharacterCreator.DESIGN_HEAD_BUTTON_ARROW_LEFT_DYNAMIC_CONTAINER;
-    private static final int HEAD_ARROW_RIGHT = WidgetIndices.CharacterCreator.DESIGN_HEAD_BUTTON_ARROW_RIGHT_DYNAMIC_CONTAINER;
-    private static final int JAW_ARROW_LEFT = WidgetIndices.CharacterCreator.DESIGN_JAW_BUTTON_ARROW_LEFT_DYNAMIC_CONTAINER;
-    private static final int JAW_ARROW_RIGHT = WidgetIndices.CharacterCreator.DESIGN_JAW_BUTTON_ARROW_RIGHT_DYNAMIC_CONTAINER;
-    private static final int TORSO_ARROW_LEFT = WidgetIndices.CharacterCreator.DESIGN_TORSO_BUTTON_ARROW_LEFT_DYNAMIC_CONTAINER;
-    private static final int TORSO_ARROW_RIGHT = WidgetIndices.CharacterCreator.DESIGN_TORSO_BUTTON_ARROW_RIGHT_DYNAMIC_CONTAINER;
-    private static final int ARMS_ARROW_LEFT = WidgetIndices.CharacterCreator.DESIGN_ARMS_BUTTON_ARROW_LEFT_DYNAMIC_CONTAINER;
-    private static final int ARMS_ARROW_RIGHT = WidgetIndices.CharacterCreator.DESIGN_ARMS_BUTTON_ARROW_RIGHT_DYNAMIC_CONTAINER;
-    private static final int HANDS_ARROW_LEFT = WidgetIndices.CharacterCreator.DESIGN_HANDS_BUTTON_ARROW_LEFT_DYNAMIC_CONTAINER;
-    private static final int HANDS_ARROW_RIGHT = WidgetIndices.CharacterCreator.DESIGN_HANDS_BUTTON_ARROW_RIGHT_DYNAMIC_CONTAINER;
-    private static final int LEGS_ARROW_LEFT = WidgetIndices.CharacterCreator.DESIGN_LEGS_BUTTON_ARROW_LEFT_DYNAMIC_CONTAINER;
-    private static final int LEGS_ARROW_RIGHT = WidgetIndices.CharacterCreator.DESIGN_LEGS_BUTTON_ARROW_RIGHT_DYNAMIC_CONTAINER;
-    private static final int FEET_ARROW_LEFT = WidgetIndices.CharacterCreator.DESIGN_FEET_BUTTON_ARROW_LEFT_DYNAMIC_CONTAINER;
-    private static final int FEET_ARROW_RIGHT = WidgetIndices.CharacterCreator.DESIGN_FEET_BUTTON_ARROW_RIGHT_DYNAMIC_CONTAINER;
-
-    private static final int HAIR_COLOR_LEFT = WidgetIndices.CharacterCreator.COLOUR_HAIR_BUTTON_ARROW_LEFT_DYNAMIC_CONTAINER;
-    private static final int HAIR_COLOR_RIGHT = WidgetIndices.CharacterCreator.COLOUR_HAIR_BUTTON_ARROW_RIGHT_DYNAMIC_CONTAINER;
-    private static final int TORSO_COLOR_LEFT = WidgetIndices.CharacterCreator.COLOUR_TORSO_BUTTON_ARROW_LEFT_DYNAMIC_CONTAINER;
-    private static final int TORSO_COLOR_RIGHT = WidgetIndices.CharacterCreator.COLOUR_TORSO_BUTTON_ARROW_RIGHT_DYNAMIC_CONTAINER;
-    private static final int LEGS_COLOR_LEFT = WidgetIndices.CharacterCreator.COLOUR_LEGS_BUTTON_ARROW_LEFT_DYNAMIC_CONTAINER;
-    private static final int LEGS_COLOR_RIGHT = WidgetIndices.CharacterCreator.COLOUR_LEGS_BUTTON_ARROW_RIGHT_DYNAMIC_CONTAINER;
-    private static final int FEET_COLOR_LEFT = WidgetIndices.CharacterCreator.COLOUR_FEET_BUTTON_ARROW_LEFT_DYNAMIC_CONTAINER;
-    private static final int FEET_COLOR_RIGHT = WidgetIndices.CharacterCreator.COLOUR_FEET_BUTTON_ARROW_RIGHT_DYNAMIC_CONTAINER;
-    private static final int SKIN_COLOR_LEFT = WidgetIndices.CharacterCreator.COLOUR_SKIN_BUTTON_ARROW_LEFT_DYNAMIC_CONTAINER;
-    private static final int SKIN_COLOR_RIGHT = WidgetIndices.CharacterCreator.COLOUR_SKIN_BUTTON_ARROW_RIGHT_DYNAMIC_CONTAINER;
+    private static final int ARROW_CLICK_CHILD = 9;
+    private static final int BUTTON_CLICK_CHILD = 0;
+    private static final int CLICKS_PER_TICK = 4;
+    private static final int TICK_TIMEOUT_MS = 1200;
+    private static final int MAX_APPLY_ROUNDS = 40;
 
     public boolean isCharacterCreationOpen() {
         return Rs2Widget.isWidgetVisible(CHARACTER_CREATOR_WIDGET_ID, 0);
     }
 
-    public boolean createFemaleCharacter() {
-        log.info("Starting female character creation");
+    public boolean createCharacter(TutorialSession session, TutorialIslandConfig config) {
+        AppearancePlan plan = resolvePlan(session, config);
+        Gender gender = plan.getGender();
+        log.info("Starting {} character creation with preset {}", gender, plan);
 
         if (!isCharacterCreationOpen()) {
             log.error("Character creation interface not open");
             return false;
         }
 
+        boolean batched = config.batchCharacterCreation();
         try {
-            if (!selectFemaleGender()) {
-                if (!errorRecovery.handleError("selectFemaleGender", "Failed to select female gender")) {
-                    return false;
-                }
+            if (!selectGender(gender, batched)) {
+                errorRecovery.handleError(session, "selectGender", "Failed to select " + gender + " gender");
                 return false;
             }
-            errorRecovery.resetError("selectFemaleGender");
+            errorRecovery.resetError(session, "selectGender");
 
-            if (!randomizeDesign()) {
-                if (!errorRecovery.handleError("randomizeDesign", "Failed to randomize design")) {
-                    return false;
-                }
+            Widget[][] arrows = resolveArrows();
+            if (arrows == null) {
+                errorRecovery.handleError(session, "resolveArrows", "Character creator arrows not found");
                 return false;
             }
-            errorRecovery.resetError("randomizeDesign");
+            errorRecovery.resetError(session, "resolveArrows");
 
-            if (!randomizeColors()) {
-                if (!errorRecovery.handleError("randomizeColors", "Failed to randomize colors")) {
-                    return false;
-                }
+            if (!applyPlan(arrows, plan, batched)) {
+                errorRecovery.handleError(session, "applyAppearance", "Appearance did not match the preset");
                 return false;
             }
-            errorRecovery.resetError("randomizeColors");
+            errorRecovery.resetError(session, "applyAppearance");
 
             if (!confirmCharacter()) {
-                if (!errorRecovery.handleError("confirmCharacter", "Failed to confirm character")) {
-                    return false;
-                }
+                errorRecovery.handleError(session, "confirmCharacter", "Failed to confirm character");
                 return false;
             }
-            errorRecovery.resetError("confirmCharacter");
+            errorRecovery.resetError(session, "confirmCharacter");
 
-            log.info("Character creation completed successfully");
-            Microbot.log("Female character created!");
+            log.info("Character creation completed successfully with preset {}", session.getAppearancePlan());
+            Microbot.log(gender + " character created!");
             return true;
 
         } catch (Exception e) {
             log.error("Exception during character creation", e);
-            errorRecovery.handleError("createFemaleCharacter", e.getMessage());
+            errorRecovery.handleError(session, "createCharacter", e.getMessage());
             return false;
         }
     }
 
-    private boolean selectFemaleGender() {
-        log.debug("Selecting female gender");
-
-        Widget femaleButton = Rs2Widget.getWidget(CHARACTER_CREATOR_WIDGET_ID, GENDER_FEMALE_BUTTON);
-        if (femaleButton == null) {
-            log.warn("Female gender button widget not found");
-            return false;
-        }
-
-        Widget clickableButton = femaleButton.getChild(0);
-        if (clickableButton != null) {
-            Rs2Widget.clickWidget(clickableButton);
-            sleep(Rs2Random.between(300, 600));
-            return true;
+    private AppearancePlan resolvePlan(TutorialSession session, TutorialIslandConfig config) {
+        AppearancePlan current = session.getAppearancePlan();
+        if (current != null) {
+            return current;
         }
 
-        log.warn("Female gender clickable button not found");
-        return false;
+        AppearancePlan plan = createPlan(session, config);
+        session.setAppearancePlan(plan);
+        return plan;
     }
 
-    private boolean randomizeDesign() {
-        log.debug("Randomizing character design");
-
-        randomizeBodyPart("Head", HEAD_ARROW_LEFT, HEAD_ARROW_RIGHT);
-        sleep(Rs2Random.between(200, 400));
+    private AppearancePlan createPlan(TutorialSession session, TutorialIslandConfig config) {
+        String preset = config.appearancePreset();
+        if (preset != null && !preset.trim().isEmpty()) {
+            try {
+                return AppearancePlan.decode(preset);
+            } catch (IllegalArgumentException e) {
+                log.warn("Ignoring appearance preset '{}': {}", preset, e.getMessage());
+            }
+        }
 
-        randomizeBodyPart("Jaw", JAW_ARROW_LEFT, JAW_ARROW_RIGHT);
-        sleep(Rs2Random.between(200, 400));
+        if (config.appearanceSeed() != 0) {
+            String accountName = session.getAccountName();
+            long seed = config.appearanceSeed() * 0x9E3779B97F4A7C15L
+                + (accountName != null ? accountName.toLowerCase().hashCode() : 0);
+            return AppearancePlan.seeded(seed, config.gender());
+        }
 
-        randomizeBodyPart("Torso", TORSO_ARROW_LEFT, TORSO_ARROW_RIGHT);
-        sleep(Rs2Random.between(200, 400));
+        return AppearancePlan.random(ThreadLocalRandom.current(), config.gender());
+    }
 
-        randomizeBodyPart("Arms", ARMS_ARROW_LEFT, ARMS_ARROW_RIGHT);
-        sleep(Rs2Random.between(200, 400));
+    private boolean applyPlan(Widget[][] arrows, AppearancePlan plan, boolean batched) {
+        for (int round = 0; round < MAX_APPLY_ROUNDS; round++) {
+            int[] current = readAppearance(plan.getGender());
+            if (current == null) {
+                return false;
+            }
 
-        randomizeBodyPart("Hands", HANDS_ARROW_LEFT, HANDS_ARROW_RIGHT);
-        sleep(Rs2Random.between(200, 400));
+            int[] clicks = new int[current.length];
+            int total = 0;
+            for (AppearanceSlot slot : AppearanceSlot.values()) {
+                clicks[slot.ordinal()] = plan.getClicks(slot, current[slot.ordinal()]);
+                total += Math.abs(clicks[slot.ordinal()]);
+            }
 
-        randomizeBodyPart("Legs", LEGS_ARROW_LEFT, LEGS_ARROW_RIGHT);
-        sleep(Rs2Random.between(200, 400));
+            if (total == 0) {
+                log.debug("Appearance matches preset {} after {} rounds", plan, round);
+                return true;
+            }
 
-        randomizeBodyPart("Feet", FEET_ARROW_LEFT, FEET_ARROW_RIGHT);
-        sleep(Rs2Random.between(200, 400));
+            clickArrows(arrows, clicks, batched);
+        }
 
-        return true;
+        log.warn("Appearance did not reach preset {} within {} rounds", plan, MAX_APPLY_ROUNDS);
+        return false;
     }
 
-    private boolean randomizeColors() {
-        log.debug("Randomizing character colors");
+    private Widget[][] resolveArrows() {
+        AppearanceSlot[] slots = AppearanceSlot.values();
+        Widget[][] arrows = new Widget[slots.length][];
 
-        randomizeColor("Hair", HAIR_COLOR_LEFT, HAIR_COLOR_RIGHT);
-        sleep(Rs2Random.between(200, 400));
-
-        randomizeColor("Torso", TORSO_COLOR_LEFT, TORSO_COLOR_RIGHT);
-        sleep(Rs2Random.between(200, 400));
-
-        randomizeColor("Legs", LEGS_COLOR_LEFT, LEGS_COLOR_RIGHT);
-        sleep(Rs2Random.between(200, 400));
-
-        randomizeColor("Feet", FEET_COLOR_LEFT, FEET_COLOR_RIGHT);
-        sleep(Rs2Random.between(200, 400));
+        for (AppearanceSlot slot : slots) {
+            Widget left = resolveArrow(slot.getLeftArrow());
+            Widget right = resolveArrow(slot.getRightArrow());
+            if (left == null || right == null) {
+                log.warn("{} arrows not found", slot.getDisplayName());
+                return null;
+            }
+            arrows[slot.ordinal()] = new Widget[]{left, right};
+        }
 
-        randomizeColor("Skin", SKIN_COLOR_LEFT, SKIN_COLOR_RIGHT);
-        sleep(Rs2Random.between(200, 400));
+        return arrows;
+    }
 
-        return true;
+    private Widget resolveArrow(int childId) {
+        return widgetCache.getChild(CHARACTER_CREATOR_WIDGET_ID, childId, ARROW_CLICK_CHILD);
     }
 
-    private void randomizeBodyPart(String partName, int leftArrowId, int rightArrowId) {
-        int clicks = Rs2Random.between(1, 3);
-        boolean clickLeft = Rs2Random.random() < 0.5;
+    private void clickArrows(Widget[][] arrows, int[] clicks, boolean batched) {
+        int clicksThisTick = 0;
 
-        for (int i = 0; i < clicks; i++) {
-            int arrowId = clickLeft ? leftArrowId : rightArrowId;
-            Widget arrow = Rs2Widget.getWidget(CHARACTER_CREATOR_WIDGET_ID, arrowId);
+        for (AppearanceSlot slot : AppearanceSlot.values()) {
+            int count = clicks[slot.ordinal()];
+            Widget arrow = arrows[slot.ordinal()][count < 0 ? 0 : 1];
 
-            if (arrow != null) {
-                Widget clickableArrow = arrow.getChild(9);
-                if (clickableArrow != null) {
-                    Rs2Widget.clickWidget(clickableArrow);
+            for (int i = 0; i < Math.abs(count); i++) {
+                if (batched && clicksThisTick == CLICKS_PER_TICK) {
+                    awaitNextTick();
+                    clicksThisTick = 0;
+                }
+                Rs2Widget.clickWidget(arrow);
+                clicksThisTick++;
+                if (!batched) {
                     sleep(Rs2Random.between(100, 250));
                 }
             }
-
-            if (Rs2Random.random() < 0.3) {
-                clickLeft = !clickLeft;
-            }
         }
 
-        log.debug("Randomized {} with {} clicks", partName, clicks);
+        awaitNextTick();
     }
 
-    private void randomizeColor(String colorName, int leftArrowId, int rightArrowId) {
-        int clicks = Rs2Random.between(1, 4);
-        boolean clickLeft = Rs2Random.random() < 0.5;
+    private void awaitNextTick() {
+        Client client = Microbot.getClient();
+        int tick = client.getTickCount();
+        sleepUntil(() -> client.getTickCount() != tick, TICK_TIMEOUT_MS);
+    }
 
-        for (int i = 0; i < clicks; i++) {
-            int arrowId = clickLeft ? leftArrowId : rightArrowId;
-            Widget arrow = Rs2Widget.getWidget(CHARACTER_CREATOR_WIDGET_ID, arrowId);
+    private int[] readAppearance(Gender gender) {
+        Player player = Microbot.getClient().getLocalPlayer();
+        PlayerComposition composition = player != null ? player.getPlayerComposition() : null;
+        if (composition == null) {
+            return null;
+        }
 
-            if (arrow != null) {
-                Widget clickableArrow = arrow.getChild(9);
-                if (clickableArrow != null) {
-                    Rs2Widget.clickWidget(clickableArrow);
-                    sleep(Rs2Random.between(100, 250));
-                }
-            }
+        AppearanceSlot[] slots = AppearanceSlot.values();
+        int[] colours = composition.getColors();
+        int[] values = new int[slots.length];
+        for (AppearanceSlot slot : slots) {
+            int value = slot.isColour()
+                ? colours[slot.getColourIndex()]
+                : composition.getKitId(slot.getKitType());
+            values[slot.ordinal()] = slot.indexOf(gender, value);
+        }
+        return values;
+    }
 
-            if (Rs2Random.random() < 0.3) {
-                clickLeft = !clickLeft;
+    private boolean selectGender(Gender gender, boolean batched) {
+        log.debug("Selecting {} gender", gender);
+
+        Widget clickableButton = widgetCache.getChild(CHARACTER_CREATOR_WIDGET_ID, gender.getButtonChildId(),
+            BUTTON_CLICK_CHILD);
+        if (clickableButton != null) {
+            Rs2Widget.clickWidget(clickableButton);
+            if (batched) {
+                awaitNextTick();
+            } else {
+                sleep(Rs2Random.between(300, 600));
             }
+            return true;
         }
 
-        log.debug("Randomized {} color with {} clicks", colorName, clicks);
+        log.warn("{} gender clickable button not found", gender);
+        return false;
     }
 
     private boolean confirmCharacter() {
         log.debug("Confirming character creation");
 
-        Widget confirmButton = Rs2Widget.getWidget(CHARACTER_CREATOR_WIDGET_ID, CONFIRM_BUTTON);
-        if (confirmButton == null) {
-            log.warn("Confirm button widget not found");
-            return false;
-        }
-
-        Widget clickableButton = confirmButton.getChild(0);
+        Widget clickableButton = widgetCache.getChild(CHARACTER_CREATOR_WIDGET_ID, CONFIRM_BUTTON, BUTTON_CLICK_CHILD);
         if (clickableButton != null) {
             Rs2Widget.clickWidget(clickableButton);
             
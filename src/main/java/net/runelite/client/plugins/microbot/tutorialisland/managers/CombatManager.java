@@ -0,0 +1,48 @@
+package net.runelite.client.plugins.microbot.tutorialisland.managers;
+
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.client.plugins.microbot.tutorialisland.actions.GameActions;
+import net.runelite.client.plugins.microbot.tutorialisland.models.CombatTarget;
+import net.runelite.client.plugins.microbot.tutorialisland.models.GameStateSnapshot;
+import net.runelite.client.plugins.microbot.tutorialisland.models.TutorialSession;
+import net.runelite.client.plugins.microbot.tutorialisland.stages.StageStep;
+
+import javax.inject.Singleton;
+
+@Slf4j
+@Singleton
+public class CombatManager {
+
+    private static final int ENGAGE_TIMEOUT_MS = 6000;
+    private static final int KILL_TIMEOUT_MS = 30000;
+
+    public StageStep fight(TutorialSession session, GameStateSnapshot state, String step, int npcId) {
+        CombatTarget current = session.getCombatTarget();
+        if (current != null && current.getNpcId() == npcId && !current.isKilled() && state.isInCombat()) {
+            return StageStep.waitUntil(step, s -> current.isKilled() || !s.isInCombat(), KILL_TIMEOUT_MS);
+        }
+
+        Integer index = session.getActions().attackUnengaged(npcId);
+        if (index == null) {
+            session.setCombatTarget(null);
+            return StageStep.failed(step, "No unengaged npc " + npcId + " to attack");
+        }
+
+        CombatTarget target = new CombatTarget(npcId, index);
+        session.setCombatTarget(target);
+        log.debug("Attacking npc {} (index {})", npcId, index == GameActions.UNKNOWN_TARGET ? "unknown" : index);
+
+        return StageStep.expect(step, s -> target.isKilled() || s.isInCombat(), ENGAGE_TIMEOUT_MS);
+    }
+
+    public boolean onNpcGone(TutorialSession session, int npcId, int npcIndex) {
+        CombatTarget target = session.getCombatTarget();
+        if (target == null || target.isKilled() || !target.matches(npcId, npcIndex)) {
+            return false;
+        }
+
+        log.debug("Target npc {} (index {}) killed", npcId, npcIndex);
+        target.markKilled();
+        return true;
+    }
+}
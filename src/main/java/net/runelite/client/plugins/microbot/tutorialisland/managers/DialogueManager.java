@@ -0,0 +1,162 @@
+package net.runelite.client.plugins.microbot.tutorialisland.managers;
+
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.client.plugins.microbot.tutorialisland.actions.GameActions;
+import net.runelite.client.plugins.microbot.tutorialisland.models.DialogueScript;
+import net.runelite.client.plugins.microbot.tutorialisland.models.GameStateSnapshot;
+import net.runelite.client.plugins.microbot.tutorialisland.stages.StageStep;
+
+import javax.inject.Singleton;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.function.Predicate;
+
+@Slf4j
+@Singleton
+public class DialogueManager {
+
+    private static final String SCRIPTS_RESOURCE = "dialogue_scripts.txt";
+    private static final String COMMENT_PREFIX = "#";
+    private static final int DIALOGUE_TIMEOUT_MS = 1800;
+    private static final int DEFAULT_OPTION = 1;
+
+    private final Map<String, NavigableMap<Integer, DialogueScript>> scriptsByNpc = new HashMap<>();
+    private final NavigableMap<Integer, List<DialogueScript>> scriptsByProgress = new TreeMap<>();
+    private final NavigableMap<Integer, DialogueScript> fallbackScripts = new TreeMap<>();
+
+    public DialogueManager() {
+        this(loadScripts());
+    }
+
+    public DialogueManager(List<DialogueScript> scripts) {
+        for (DialogueScript script : scripts) {
+            if (script.isAnyNpc()) {
+                fallbackScripts.put(script.getMinProgress(), script);
+                continue;
+            }
+            scriptsByNpc.computeIfAbsent(npcKey(script.getNpc()), npc -> new TreeMap<>())
+                .put(script.getMinProgress(), script);
+            scriptsByProgress.computeIfAbsent(script.getMinProgress(), progress -> new ArrayList<>())
+                .add(script);
+        }
+        log.debug("Loaded {} dialogue scripts for {} npcs", scripts.size(), scriptsByNpc.size());
+    }
+
+    public StageStep advance(GameActions actions, GameStateSnapshot state) {
+        if (state.isDialogueContinue()) {
+            actions.continueDialogue();
+            return StageStep.waitUntil("dialogue", changedFrom(state), DIALOGUE_TIMEOUT_MS);
+        }
+
+        if (state.isDialogueOptions()) {
+            int option = chooseOption(state);
+            log.debug("Selecting dialogue option {} of {}", option, state.getDialogueOptionTexts());
+            actions.selectDialogueOption(option);
+            return StageStep.waitUntil("dialogue", changedFrom(state), DIALOGUE_TIMEOUT_MS);
+        }
+
+        return StageStep.next("dialogue");
+    }
+
+    public int chooseOption(GameStateSnapshot state) {
+        List<String> options = state.getDialogueOptionTexts();
+        int progress = state.getTutorialProgress();
+
+        for (DialogueScript script : findScripts(state.getDialogueNpc(), progress)) {
+            int option = script.choose(options);
+            if (option > 0) {
+                return option;
+            }
+        }
+
+        log.warn("No dialogue script matches options {} at progress {}", options, progress);
+        return DEFAULT_OPTION;
+    }
+
+    private List<DialogueScript> findScripts(String npc, int progress) {
+        List<DialogueScript> scripts = new ArrayList<>(2);
+
+        if (npc != null) {
+            NavigableMap<Integer, DialogueScript> byProgress = scriptsByNpc.get(npcKey(npc));
+            addCovering(scripts, byProgress, progress);
+        } else {
+            for (List<DialogueScript> candidates : scriptsByProgress.headMap(progress, true).values()) {
+                for (DialogueScript script : candidates) {
+                    if (script.covers(progress)) {
+                        scripts.add(script);
+                    }
+                }
+            }
+        }
+
+        addCovering(scripts, fallbackScripts, progress);
+        return scripts;
+    }
+
+    private static void addCovering(List<DialogueScript> scripts, NavigableMap<Integer, DialogueScript> byProgress,
+                                    int progress) {
+        if (byProgress == null) {
+            return;
+        }
+
+        Entry<Integer, DialogueScript> entry = byProgress.floorEntry(progress);
+        if (entry != null && entry.getValue().covers(progress)) {
+            scripts.add(entry.getValue());
+        }
+    }
+
+    private static String npcKey(String npc) {
+        return DialogueScript.normalize(npc);
+    }
+
+    private static List<DialogueScript> loadScripts() {
+        InputStream in = DialogueManager.class.getResourceAsStream(SCRIPTS_RESOURCE);
+        if (in == null) {
+            log.warn("Dialogue scripts resource {} not found", SCRIPTS_RESOURCE);
+            return Collections.emptyList();
+        }
+
+        List<DialogueScript> scripts = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                if (line.isEmpty() || line.startsWith(COMMENT_PREFIX)) {
+                    continue;
+                }
+
+                try {
+                    scripts.add(DialogueScript.parse(line));
+                } catch (IllegalArgumentException e) {
+                    log.warn("Skipping dialogue script: {}", e.getMessage());
+                }
+            }
+        } catch (IOException e) {
+            log.error("Error reading dialogue scripts", e);
+        }
+        return scripts;
+    }
+
+    private static Predicate<GameStateSnapshot> changedFrom(GameStateSnapshot before) {
+        String text = before.getDialogueText();
+        List<String> options = before.getDialogueOptionTexts();
+        boolean hadOptions = before.isDialogueOptions();
+
+        return state -> !state.isInDialogue()
+            || state.isDialogueOptions() != hadOptions
+            || !Objects.equals(state.getDialogueText(), text)
+            || !state.getDialogueOptionTexts().equals(options);
+    }
+}
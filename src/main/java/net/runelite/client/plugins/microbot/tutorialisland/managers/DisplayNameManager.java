@@ -0,0 +1,82 @@
+package net.runelite.client.plugins.microbot.tutorialisland.managers;
+
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.api.widgets.Widget;
+import net.runelite.client.plugins.microbot.tutorialisland.actions.GameActions;
+import net.runelite.client.plugins.microbot.tutorialisland.models.TutorialSession;
+import net.runelite.client.plugins.microbot.tutorialisland.stages.StageStep;
+import net.runelite.client.plugins.microbot.util.widget.Rs2Widget;
+import net.runelite.client.util.Text;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+@Slf4j
+@Singleton
+public class DisplayNameManager {
+
+    @Inject
+    private NameGenerationManager nameGenerationManager;
+
+    private static final String LOOK_UP_TEXT = "Look up name";
+    private static final String SET_NAME_TEXT = "Set name";
+    private static final String STATUS_TEXT = "available";
+    private static final String UNAVAILABLE_TEXT = "not available";
+    private static final int LOOKUP_TIMEOUT_MS = 6000;
+    private static final int SET_NAME_TIMEOUT_MS = 6000;
+
+    public boolean isNameEntryOpen() {
+        return Rs2Widget.hasWidget(LOOK_UP_TEXT);
+    }
+
+    public StageStep chooseName(TutorialSession session) {
+        GameActions actions = session.getActions();
+        String name = session.getAccountName();
+        if (name == null) {
+            name = nextName(session);
+        }
+
+        Boolean available = lookupResult(name);
+        if (Boolean.TRUE.equals(available)) {
+            nameGenerationManager.recordAvailability(name, true);
+            log.info("Display name {} is available, setting it", name);
+            if (actions.clickWidget(SET_NAME_TEXT)) {
+                return StageStep.expect("setDisplayName", s -> !isNameEntryOpen(), SET_NAME_TIMEOUT_MS);
+            }
+            return StageStep.failed("setDisplayName", "Set name button not found");
+        }
+
+        if (Boolean.FALSE.equals(available)) {
+            nameGenerationManager.recordAvailability(name, false);
+            String taken = name;
+            name = nextName(session);
+            log.info("Display name {} is taken, trying {}", taken, name);
+        }
+
+        if (!actions.typeName(name) || !actions.clickWidget(LOOK_UP_TEXT)) {
+            return StageStep.failed("lookUpName", "Failed to look up " + name);
+        }
+
+        String lookedUp = name;
+        return StageStep.expect("lookUpName", s -> lookupResult(lookedUp) != null, LOOKUP_TIMEOUT_MS);
+    }
+
+    private String nextName(TutorialSession session) {
+        String name = nameGenerationManager.generateUniqueName();
+        session.setAccountName(name);
+        return name;
+    }
+
+    private Boolean lookupResult(String name) {
+        Widget status = Rs2Widget.findWidget(STATUS_TEXT);
+        if (status == null || status.getText() == null) {
+            return null;
+        }
+
+        String text = Text.removeTags(status.getText()).toLowerCase();
+        if (!text.contains(name.toLowerCase())) {
+            return null;
+        }
+        return !text.contains(UNAVAILABLE_TEXT);
+    }
+}
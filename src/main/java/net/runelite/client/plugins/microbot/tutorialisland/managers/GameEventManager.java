@@ -0,0 +1,261 @@
+package net.runelite.client.plugins.microbot.tutorialisland.managers;
+
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.api.ChatMessageType;
+import net.runelite.api.Client;
+import net.runelite.api.GameState;
+import net.runelite.api.InventoryID;
+import net.runelite.api.NPC;
+import net.runelite.api.coords.WorldPoint;
+import net.runelite.api.events.ActorDeath;
+import net.runelite.api.events.ChatMessage;
+import net.runelite.api.events.GameObjectDespawned;
+import net.runelite.api.events.GameObjectSpawned;
+import net.runelite.api.events.GameStateChanged;
+import net.runelite.api.events.GameTick;
+import net.runelite.api.events.ItemContainerChanged;
+import net.runelite.api.events.NpcDespawned;
+import net.runelite.api.events.NpcSpawned;
+import net.runelite.api.events.VarbitChanged;
+import net.runelite.api.events.WallObjectDespawned;
+import net.runelite.api.events.WallObjectSpawned;
+import net.runelite.api.events.WidgetClosed;
+import net.runelite.api.events.WidgetLoaded;
+import net.runelite.client.callback.ClientThread;
+import net.runelite.client.eventbus.EventBus;
+import net.runelite.client.eventbus.Subscribe;
+import net.runelite.client.plugins.microbot.tutorialisland.actions.SceneIndex;
+import net.runelite.client.plugins.microbot.tutorialisland.actions.WidgetCache;
+import net.runelite.client.plugins.microbot.tutorialisland.models.GameStateSnapshot;
+import net.runelite.client.plugins.microbot.tutorialisland.models.TutorialSession;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@Singleton
+public class GameEventManager {
+
+    private static final int TUTORIAL_ISLAND_VARBIT = 281;
+    private static final long HEARTBEAT_INTERVAL_MS = 3000;
+
+    @Inject
+    private EventBus eventBus;
+
+    @Inject
+    private Client client;
+
+    @Inject
+    private ClientThread clientThread;
+
+    @Inject
+    private WidgetCache widgetCache;
+
+    @Inject
+    private SceneIndex sceneIndex;
+
+    @Inject
+    private GatheringManager gatheringManager;
+
+    @Inject
+    private CombatManager combatManager;
+
+    private volatile TutorialSession session;
+    private boolean registered = false;
+
+    public ScheduledFuture<?> start(ScheduledExecutorService executor, TutorialSession session, Runnable pass) {
+        this.session = session;
+        session.attach(executor, pass);
+
+        if (!registered) {
+            eventBus.register(this);
+            registered = true;
+            clientThread.invoke(sceneIndex::rebuild);
+        }
+
+        log.debug("Game event manager started for session {}", session.getId());
+        return executor.scheduleWithFixedDelay(this::onHeartbeat, 0, HEARTBEAT_INTERVAL_MS, TimeUnit.MILLISECONDS);
+    }
+
+    public void stop() {
+        if (registered) {
+            eventBus.unregister(this);
+            registered = false;
+        }
+
+        TutorialSession current = session;
+        if (current != null) {
+            current.detach();
+        }
+        session = null;
+        log.debug("Game event manager stopped");
+    }
+
+    @Subscribe
+    public void onGameTick(GameTick event) {
+        TutorialSession current = session;
+        if (current == null) {
+            return;
+        }
+
+        current.advanceTick(capture(current.getTickCount() + 1));
+    }
+
+    @Subscribe
+    public void onVarbitChanged(VarbitChanged event) {
+        if (event.getVarpId() == TUTORIAL_ISLAND_VARBIT || event.getVarbitId() == TUTORIAL_ISLAND_VARBIT) {
+            markDirty();
+        }
+    }
+
+    @Subscribe
+    public void onWidgetLoaded(WidgetLoaded event) {
+        widgetCache.invalidate(event.getGroupId());
+
+        TutorialSession current = session;
+        if (current != null && isDialogueGroup(event.getGroupId())) {
+            current.refresh(capture(current.getTickCount()));
+            return;
+        }
+
+        markDirty();
+    }
+
+    @Subscribe
+    public void onWidgetClosed(WidgetClosed event) {
+        widgetCache.invalidate(event.getGroupId());
+        markDirty();
+    }
+
+    @Subscribe
+    public void onItemContainerChanged(ItemContainerChanged event) {
+        TutorialSession current = session;
+        if (current != null && event.getContainerId() == InventoryID.INVENTORY.getId()) {
+            current.refresh(capture(current.getTickCount()));
+            return;
+        }
+
+        markDirty();
+    }
+
+    @Subscribe
+    public void onGameObjectSpawned(GameObjectSpawned event) {
+        sceneIndex.objectSpawned(event.getGameObject());
+    }
+
+    @Subscribe
+    public void onGameObjectDespawned(GameObjectDespawned event) {
+        sceneIndex.objectDespawned(event.getGameObject());
+        onDespawned(event.getGameObject().getId(), event.getGameObject().getWorldLocation());
+    }
+
+    @Subscribe
+    public void onWallObjectSpawned(WallObjectSpawned event) {
+        sceneIndex.objectSpawned(event.getWallObject());
+    }
+
+    @Subscribe
+    public void onWallObjectDespawned(WallObjectDespawned event) {
+        sceneIndex.objectDespawned(event.getWallObject());
+    }
+
+    @Subscribe
+    public void onNpcSpawned(NpcSpawned event) {
+        sceneIndex.npcSpawned(event.getNpc());
+    }
+
+    @Subscribe
+    public void onNpcDespawned(NpcDespawned event) {
+        NPC npc = event.getNpc();
+        sceneIndex.npcDespawned(npc);
+        onNpcGone(npc);
+        onDespawned(npc.getId(), npc.getWorldLocation());
+    }
+
+    @Subscribe
+    public void onActorDeath(ActorDeath event) {
+        if (event.getActor() instanceof NPC) {
+            onNpcGone((NPC) event.getActor());
+        }
+    }
+
+    @Subscribe
+    public void onChatMessage(ChatMessage event) {
+        ChatMessageType type = event.getType();
+        if (type == ChatMessageType.GAMEMESSAGE || type == ChatMessageType.SPAM
+                || type == ChatMessageType.ENGINE || type == ChatMessageType.MESBOX) {
+            markDirty();
+        }
+    }
+
+    @Subscribe
+    public void onGameStateChanged(GameStateChanged event) {
+        if (event.getGameState() != GameState.LOGGED_IN) {
+            widgetCache.invalidateAll();
+        }
+        if (event.getGameState() == GameState.LOADING) {
+            sceneIndex.clearObjects();
+        } else if (event.getGameState() == GameState.LOGIN_SCREEN || event.getGameState() == GameState.HOPPING) {
+            sceneIndex.clear();
+        }
+
+        TutorialSession current = session;
+        if (current == null) {
+            return;
+        }
+
+        if (event.getGameState() != GameState.LOGGED_IN) {
+            current.loggedOut();
+        } else {
+            current.markDirty();
+        }
+    }
+
+    private void onNpcGone(NPC npc) {
+        TutorialSession current = session;
+        if (current != null && combatManager.onNpcGone(current, npc.getId(), npc.getIndex())) {
+            current.refresh(capture(current.getTickCount()));
+        }
+    }
+
+    private void onDespawned(int id, WorldPoint location) {
+        TutorialSession current = session;
+        if (current != null && gatheringManager.onDespawned(current, id, location)) {
+            current.refresh(capture(current.getTickCount()));
+        }
+    }
+
+    private GameStateSnapshot capture(int tick) {
+        try {
+            return GameStateSnapshot.capture(client, tick);
+        } catch (Exception e) {
+            log.debug("Failed to capture game state snapshot", e);
+            return GameStateSnapshot.EMPTY;
+        }
+    }
+
+    private static boolean isDialogueGroup(int groupId) {
+        return groupId == GameStateSnapshot.NPC_DIALOGUE_GROUP_ID
+            || groupId == GameStateSnapshot.PLAYER_DIALOGUE_GROUP_ID
+            || groupId == GameStateSnapshot.OPTION_DIALOGUE_GROUP_ID
+            || groupId == GameStateSnapshot.MESSAGE_BOX_GROUP_ID
+            || groupId == GameStateSnapshot.SPRITE_DIALOGUE_GROUP_ID;
+    }
+
+    private void markDirty() {
+        TutorialSession current = session;
+        if (current != null) {
+            current.markDirty();
+        }
+    }
+
+    private void onHeartbeat() {
+        TutorialSession current = session;
+        if (current != null) {
+            current.heartbeat();
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package net.runelite.client.plugins.microbot.tutorialisland.managers;
+
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.api.coords.WorldPoint;
+import net.runelite.client.plugins.microbot.tutorialisland.actions.GameActions;
+import net.runelite.client.plugins.microbot.tutorialisland.enums.GatheringResource;
+import net.runelite.client.plugins.microbot.tutorialisland.models.GameStateSnapshot;
+import net.runelite.client.plugins.microbot.tutorialisland.models.GatheringTarget;
+import net.runelite.client.plugins.microbot.tutorialisland.models.TutorialSession;
+import net.runelite.client.plugins.microbot.tutorialisland.stages.ActionSteps;
+import net.runelite.client.plugins.microbot.tutorialisland.stages.StageStep;
+
+import javax.inject.Singleton;
+import java.util.List;
+import java.util.function.Predicate;
+
+@Slf4j
+@Singleton
+public class GatheringManager {
+
+    private static final int GATHER_TIMEOUT_MS = 20000;
+
+    public StageStep gather(TutorialSession session, GameStateSnapshot state, String step,
+                            GatheringResource resource) {
+        GameActions actions = session.getActions();
+        GatheringTarget current = session.getGatheringTarget();
+        if (current != null && current.getResource() != resource) {
+            current = null;
+        }
+
+        if (state.isAnimating() && current != null && !current.isDepleted()) {
+            return StageStep.waitUntil(step, finished(state, current), GATHER_TIMEOUT_MS);
+        }
+
+        List<WorldPoint> nodes = actions.locate(resource);
+        WorldPoint location = nodes.isEmpty() ? null : nodes.get(0);
+        WorldPoint next = nodes.size() > 1 ? nodes.get(1) : null;
+
+        if (!actions.gatherAt(resource, location)) {
+            session.setGatheringTarget(null);
+            return StageStep.failed(step, "Failed to " + resource.getAction() + " " + resource.getDisplayName());
+        }
+
+        GatheringTarget target = new GatheringTarget(resource, location);
+        session.setGatheringTarget(target);
+        log.debug("Gathering {} at {}", resource.getDisplayName(), location);
+
+        if (next != null) {
+            actions.hover(resource, next);
+        }
+
+        return StageStep.expect(step, finished(state, target), GATHER_TIMEOUT_MS);
+    }
+
+    public boolean onDespawned(TutorialSession session, int id, WorldPoint location) {
+        GatheringTarget target = session.getGatheringTarget();
+        if (target == null || target.isDepleted() || !target.matches(id, location)) {
+            return false;
+        }
+
+        log.debug("{} at {} depleted, re-targeting", target.getResource().getDisplayName(), location);
+        target.markDepleted();
+        return true;
+    }
+
+    private static Predicate<GameStateSnapshot> finished(GameStateSnapshot before, GatheringTarget target) {
+        return ActionSteps.activityFinished(before).or(state -> target.isDepleted());
+    }
+}
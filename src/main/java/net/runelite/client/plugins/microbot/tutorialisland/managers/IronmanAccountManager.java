@@ -2,138 +2,92 @@ package net.runelite.client.plugins.microbot.tutorialisland.managers;
 
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.api.widgets.Widget;
-import net.runelite.client.plugins.microbot.Microbot;
 import net.runelite.client.plugins.microbot.tutorialisland.TutorialIslandConfig;
-import net.runelite.client.plugins.microbot.util.math.Rs2Random;
+import net.runelite.client.plugins.microbot.tutorialisland.actions.WidgetCache;
+import net.runelite.client.plugins.microbot.tutorialisland.enums.AccountType;
+import net.runelite.client.plugins.microbot.tutorialisland.models.GameStateSnapshot;
+import net.runelite.client.plugins.microbot.tutorialisland.models.TutorialSession;
 import net.runelite.client.plugins.microbot.util.widget.Rs2Widget;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
-import static net.runelite.client.plugins.microbot.util.Global.sleep;
-import static net.runelite.client.plugins.microbot.util.Global.sleepUntil;
-
 @Slf4j
 @Singleton
 public class IronmanAccountManager {
 
     @Inject
-    private ErrorRecoveryManager errorRecovery;
+    private WidgetCache widgetCache;
 
-    private static final int ACCOUNT_TYPE_WIDGET_GROUP = 558;
-    private static final int IRONMAN_OPTION_CHILD = 12;
-    private static final int HARDCORE_OPTION_CHILD = 13;
-    private static final int ULTIMATE_OPTION_CHILD = 14;
-    private static final int REGULAR_OPTION_CHILD = 11;
+    private static final int ACCOUNT_TYPE_WIDGET_GROUP = GameStateSnapshot.ACCOUNT_TYPE_GROUP_ID;
     private static final int CONFIRM_BUTTON_CHILD = 15;
+    private static final String CONFIRM_TEXT = "Confirm";
+    private static final String CLOSE_TEXT = "Close";
 
     public boolean isAccountSelectionOpen() {
         return Rs2Widget.isWidgetVisible(ACCOUNT_TYPE_WIDGET_GROUP, 0);
     }
 
-    public boolean selectAccountType(TutorialIslandConfig config) {
+    public AccountType getTargetAccountType(TutorialIslandConfig config) {
+        return config.enableIronmanMode() ? config.ironmanType().getAccountType() : AccountType.NORMAL;
+    }
+
+    public AccountType getCurrentAccountType(TutorialSession session) {
+        return AccountType.fromVarbit(session.getSnapshot().getVarbit(GameStateSnapshot.ACCOUNT_TYPE_VARBIT));
+    }
+
+    public boolean selectAccountType(TutorialSession session, TutorialIslandConfig config) {
         if (!isAccountSelectionOpen()) {
             log.warn("Account selection interface is not open");
             return false;
         }
 
-        if (!config.enableIronmanMode()) {
-            log.info("Ironman mode disabled, selecting regular account");
-            return selectRegularAccount(config);
-        }
-
-        log.info("Ironman mode enabled, selecting: {}", config.ironmanType().getDisplayName());
-        
-        switch (config.ironmanType()) {
-            case REGULAR_IRONMAN:
-                return selectIronman(config);
-            case HARDCORE_IRONMAN:
-                return selectHardcoreIronman(config);
-            case ULTIMATE_IRONMAN:
-                return selectUltimateIronman(config);
-            default:
-                log.error("Unknown ironman type: {}", config.ironmanType());
-                return selectRegularAccount(config);
+        AccountType target = getTargetAccountType(config);
+        if (target != AccountType.NORMAL && getCurrentAccountType(session) == target) {
+            log.info("Account type {} verified, closing selection", target);
+            session.getActions().showMessage("Account type selected: " + target);
+            closeSelection();
+            return true;
         }
-    }
-
-    private boolean selectRegularAccount(TutorialIslandConfig config) {
-        log.debug("Selecting regular account");
-        return selectOption(REGULAR_OPTION_CHILD, "Regular Account", config);
-    }
-
-    private boolean selectIronman(TutorialIslandConfig config) {
-        log.debug("Selecting Ironman mode");
-        return selectOption(IRONMAN_OPTION_CHILD, "Ironman", config);
-    }
-
-    private boolean selectHardcoreIronman(TutorialIslandConfig config) {
-        log.debug("Selecting Hardcore Ironman mode");
-        return selectOption(HARDCORE_OPTION_CHILD, "Hardcore Ironman", config);
-    }
 
-    private boolean selectUltimateIronman(TutorialIslandConfig config) {
-        log.debug("Selecting Ultimate Ironman mode");
-        return selectOption(ULTIMATE_OPTION_CHILD, "Ultimate Ironman", config);
-    }
+        log.info("Selecting account type: {}", target);
 
-    private boolean selectOption(int childId, String optionName, TutorialIslandConfig config) {
-        Widget optionWidget = Rs2Widget.getWidget(ACCOUNT_TYPE_WIDGET_GROUP, childId);
-        
-        if (optionWidget == null) {
-            log.warn("{} option widget not found", optionName);
-            return errorRecovery.handleError("selectAccountType_" + optionName, 
-                "Widget not found");
+        Widget option = resolveOption(target);
+        if (option == null) {
+            log.warn("{} option widget not found", target);
+            return false;
         }
+        Rs2Widget.clickWidget(option);
 
-        Rs2Widget.clickWidget(optionWidget);
-        sleep(Rs2Random.between(300, 600));
-
-        sleep(config.actionDelay());
-
-        return confirmSelection(config);
-    }
-
-    private boolean confirmSelection(TutorialIslandConfig config) {
-        log.debug("Confirming account type selection");
-
-        Widget confirmButton = Rs2Widget.getWidget(ACCOUNT_TYPE_WIDGET_GROUP, CONFIRM_BUTTON_CHILD);
-        
+        Widget confirmButton = widgetCache.find(ACCOUNT_TYPE_WIDGET_GROUP, CONFIRM_TEXT);
         if (confirmButton == null) {
-            log.warn("Confirm button widget not found");
-            return errorRecovery.handleError("confirmAccountType", 
-                "Confirm button not found");
+            confirmButton = widgetCache.get(ACCOUNT_TYPE_WIDGET_GROUP, CONFIRM_BUTTON_CHILD);
         }
+        if (confirmButton != null) {
+            Rs2Widget.clickWidget(confirmButton);
+        }
+        return true;
+    }
 
-        Rs2Widget.clickWidget(confirmButton);
-        sleep(Rs2Random.between(400, 700));
-
-        boolean closed = sleepUntil(() -> !isAccountSelectionOpen(), 5000);
+    public boolean isConfirmed(GameStateSnapshot state, AccountType target) {
+        if (target == AccountType.NORMAL) {
+            return !state.isWidgetOpen(ACCOUNT_TYPE_WIDGET_GROUP);
+        }
+        return AccountType.fromVarbit(state.getVarbit(GameStateSnapshot.ACCOUNT_TYPE_VARBIT)) == target;
+    }
 
-        if (closed) {
-            log.info("Account type selection confirmed and interface closed");
-            Microbot.log("Account type selected successfully!");
-            errorRecovery.resetError("confirmAccountType");
-            return true;
-        } else {
-            log.warn("Account selection interface did not close after confirmation");
-            return errorRecovery.handleError("confirmAccountType", 
-                "Interface didn't close");
+    private Widget resolveOption(AccountType type) {
+        Widget option = widgetCache.find(ACCOUNT_TYPE_WIDGET_GROUP, type.getOptionText());
+        if (option == null && type.getLegacyChildId() >= 0) {
+            option = widgetCache.get(ACCOUNT_TYPE_WIDGET_GROUP, type.getLegacyChildId());
         }
+        return option;
     }
 
-    public boolean waitForAccountSelection(int timeoutMs) {
-        log.debug("Waiting for account selection interface (timeout: {}ms)", timeoutMs);
-        
-        boolean appeared = sleepUntil(this::isAccountSelectionOpen, timeoutMs);
-        
-        if (appeared) {
-            log.info("Account selection interface appeared");
-            sleep(500);
-            return true;
-        } else {
-            log.warn("Account selection interface did not appear within timeout");
-            return false;
+    private void closeSelection() {
+        Widget closeButton = widgetCache.find(ACCOUNT_TYPE_WIDGET_GROUP, CLOSE_TEXT);
+        if (closeButton != null) {
+            Rs2Widget.clickWidget(closeButton);
         }
     }
 }
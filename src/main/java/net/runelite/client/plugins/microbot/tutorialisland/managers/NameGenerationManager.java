@@ -1,26 +1,54 @@
 package net.runelite.client.plugins.microbot.tutorialisland.managers;
 
 import lombok.extern.slf4j.Slf4j;
-import net.runelite.client.plugins.microbot.Microbot;
+import net.runelite.client.plugins.microbot.tutorialisland.names.NameCodec;
+import net.runelite.client.plugins.microbot.tutorialisland.names.NameProvider;
+import net.runelite.client.plugins.microbot.tutorialisland.names.TakenNameCache;
+import net.runelite.client.plugins.microbot.tutorialisland.names.UsedNameStore;
+import net.runelite.client.plugins.microbot.tutorialisland.names.WordlistNameProvider;
 
 import javax.inject.Singleton;
-import java.io.*;
-import java.nio.file.Files;
+import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 @Slf4j
 @Singleton
 public class NameGenerationManager {
 
     private static final String USED_NAMES_FILE = "microbot_used_names.txt";
-    private static final int MAX_GENERATION_ATTEMPTS = 100;
-    private static final int MIN_NUMBERS = 1;
+    private static final String TAKEN_NAMES_FILE = "microbot_taken_names.txt";
+    private static final long TAKEN_NAME_TTL_MS = TimeUnit.DAYS.toMillis(7);
+    private static final String WORDLISTS_DIRECTORY = "names";
+    private static final int CANDIDATE_QUEUE_SIZE = 16;
+    private static final int PROVIDER_ATTEMPTS = 8;
+    private static final double PATTERN_WEIGHT = 1.0;
+    private static final int MAX_NAME_LENGTH = 12;
     private static final int MAX_NUMBERS = 999;
 
-    private final Set<String> usedNames = new HashSet<>();
-    private final Random random = new Random();
+    private final UsedNameStore usedNames;
+    private final TakenNameCache takenNames;
+    private final BlockingQueue<String> candidates = new ArrayBlockingQueue<>(CANDIDATE_QUEUE_SIZE);
+    private final AtomicBoolean refilling = new AtomicBoolean(false);
+    private volatile List<NameProvider> providers;
+    private final ExecutorService candidateExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "name-candidates");
+        thread.setDaemon(true);
+        return thread;
+    });
 
     private static final String[] ADJECTIVES = {
         "Brave", "Swift", "Silent", "Mighty", "Clever", "Quick", "Bold", "Noble",
@@ -41,90 +69,254 @@ public class NameGenerationManager {
         "Knight", "Warrior", "Mage", "Archer", "Ranger", "Hunter", "Scout", "Guard"
     };
 
+    private final NameCodec codec = new NameCodec(ADJECTIVES, NOUNS, MAX_NUMBERS);
+
     public NameGenerationManager() {
-        loadUsedNames();
+        usedNames = openUsedNames();
+        takenNames = openTakenNames();
     }
 
     public String generateUniqueName() {
-        for (int attempt = 0; attempt < MAX_GENERATION_ATTEMPTS; attempt++) {
-            String name = generateRandomName();
-            
-            if (!usedNames.contains(name.toLowerCase())) {
-                usedNames.add(name.toLowerCase());
-                saveUsedNames();
-                log.info("Generated unique name: {}", name);
-                return name;
+        while (true) {
+            String name = candidates.poll();
+            if (name == null) {
+                name = nextCandidate();
+            }
+
+            if (takenNames.isTaken(name)) {
+                log.debug("Skipping name {}, known to be taken", name);
+                continue;
+            }
+            if (!recordName(name)) {
+                log.debug("Skipping name {}, already used", name);
+                continue;
             }
+
+            scheduleRefill();
+            log.info("Generated unique name: {}", name);
+            return name;
         }
+    }
 
-        log.error("Failed to generate unique name after {} attempts", MAX_GENERATION_ATTEMPTS);
-        throw new RuntimeException("Unable to generate unique name");
+    public void recordAvailability(String name, boolean available) {
+        try {
+            if (available) {
+                takenNames.markAvailable(name);
+            } else {
+                takenNames.markTaken(name);
+                log.info("Recorded {} as taken", name);
+            }
+        } catch (IOException e) {
+            log.error("Error recording name availability", e);
+        }
     }
 
-    private String generateRandomName() {
-        String adjective = ADJECTIVES[random.nextInt(ADJECTIVES.length)];
-        String noun = NOUNS[random.nextInt(NOUNS.length)];
-        int number = random.nextInt(MAX_NUMBERS - MIN_NUMBERS + 1) + MIN_NUMBERS;
-        
-        return adjective + noun + number;
+    public boolean isNameKnownTaken(String name) {
+        return takenNames.isTaken(name);
     }
 
-    private void loadUsedNames() {
-        Path filePath = getUsedNamesPath();
-        
-        if (!Files.exists(filePath)) {
-            log.info("No existing used names file found, starting fresh");
-            return;
+    public int getQueuedCandidateCount() {
+        return candidates.size();
+    }
+
+    private String nextCandidate() {
+        Random random = ThreadLocalRandom.current();
+        NameProvider provider = pickProvider(random);
+        if (provider != null) {
+            String name = generateFrom(provider, random);
+            if (name != null) {
+                return name;
+            }
+        }
+        return nextPatternName();
+    }
+
+    private String generateFrom(NameProvider provider, Random random) {
+        for (int attempt = 0; attempt < PROVIDER_ATTEMPTS; attempt++) {
+            String name;
+            try {
+                name = provider.generate(random);
+            } catch (RuntimeException e) {
+                log.warn("Name provider {} failed", provider.getId(), e);
+                return null;
+            }
+
+            if (name != null && isValidName(name) && !takenNames.isTaken(name) && !isNameUsed(name)) {
+                return name;
+            }
+        }
+
+        log.debug("Name provider {} found no free name in {} attempts", provider.getId(), PROVIDER_ATTEMPTS);
+        return null;
+    }
+
+    private NameProvider pickProvider(Random random) {
+        List<NameProvider> available = getProviders();
+        if (available.isEmpty()) {
+            return null;
         }
 
-        try (BufferedReader reader = new BufferedReader(new FileReader(filePath.toFile()))) {
-            String line;
-            while ((line = reader.readLine()) != null) {
-                String trimmed = line.trim().toLowerCase();
-                if (!trimmed.isEmpty()) {
-                    usedNames.add(trimmed);
+        double total = PATTERN_WEIGHT;
+        for (NameProvider provider : available) {
+            total += provider.getWeight();
+        }
+
+        double roll = random.nextDouble() * total;
+        for (NameProvider provider : available) {
+            roll -= provider.getWeight();
+            if (roll < 0) {
+                return provider;
+            }
+        }
+        return null;
+    }
+
+    private List<NameProvider> getProviders() {
+        List<NameProvider> loaded = providers;
+        if (loaded == null) {
+            synchronized (this) {
+                loaded = providers;
+                if (loaded == null) {
+                    loaded = loadProviders();
+                    providers = loaded;
                 }
             }
-            log.info("Loaded {} previously used names", usedNames.size());
-        } catch (IOException e) {
-            log.error("Error loading used names from file", e);
         }
+        return loaded;
     }
 
-    private void saveUsedNames() {
-        Path filePath = getUsedNamesPath();
+    private List<NameProvider> loadProviders() {
+        List<NameProvider> loaded = new ArrayList<>();
+        try {
+            for (NameProvider provider : ServiceLoader.load(NameProvider.class, NameProvider.class.getClassLoader())) {
+                loaded.add(provider);
+            }
+        } catch (ServiceConfigurationError e) {
+            log.error("Error loading name providers", e);
+        }
+
+        loaded.addAll(WordlistNameProvider.discover(getNamesPath(WORDLISTS_DIRECTORY)));
+        loaded.removeIf(provider -> !(provider.getWeight() > 0));
+
+        for (NameProvider provider : loaded) {
+            log.info("Using name provider {} with weight {}", provider.getId(), provider.getWeight());
+        }
+        return loaded;
+    }
+
+    private static boolean isValidName(String name) {
+        int length = name.length();
+        if (length == 0 || length > MAX_NAME_LENGTH || name.charAt(0) == ' ' || name.charAt(length - 1) == ' ') {
+            return false;
+        }
+
+        for (int i = 0; i < length; i++) {
+            char c = name.charAt(i);
+            if (!(c >= 'a' && c <= 'z') && !(c >= 'A' && c <= 'Z') && !(c >= '0' && c <= '9')
+                    && c != ' ' && c != '-' && c != '_') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private String nextPatternName() {
+        while (true) {
+            String name;
+            try {
+                name = usedNames.pickFree(ThreadLocalRandom.current());
+            } catch (IOException e) {
+                log.error("Error picking generated name", e);
+                throw new RuntimeException("Unable to generate unique name", e);
+            }
+
+            if (name == null) {
+                log.error("All {} generated names are already used", codec.size());
+                throw new RuntimeException("Unable to generate unique name");
+            }
+
+            if (!takenNames.isTaken(name)) {
+                return name;
+            }
+        }
+    }
+
+    private void scheduleRefill() {
+        if (candidates.remainingCapacity() == 0 || !refilling.compareAndSet(false, true)) {
+            return;
+        }
 
         try {
-            Files.createDirectories(filePath.getParent());
+            candidateExecutor.execute(this::refillCandidates);
+        } catch (RejectedExecutionException e) {
+            refilling.set(false);
+        }
+    }
 
-            try (BufferedWriter writer = new BufferedWriter(new FileWriter(filePath.toFile()))) {
-                for (String name : usedNames) {
-                    writer.write(name);
-                    writer.newLine();
-                }
+    private void refillCandidates() {
+        try {
+            while (candidates.remainingCapacity() > 0 && candidates.offer(nextCandidate())) {
+                log.debug("Queued name candidate, {} ready", candidates.size());
             }
-            log.debug("Saved {} used names to file", usedNames.size());
+        } catch (RuntimeException e) {
+            log.warn("Stopped pre-generating names: {}", e.getMessage());
+        } finally {
+            refilling.set(false);
+        }
+    }
+
+    private UsedNameStore openUsedNames() {
+        try {
+            return UsedNameStore.open(getNamesPath(USED_NAMES_FILE), codec);
+        } catch (IOException e) {
+            log.error("Error opening used names store, names will not be persisted", e);
+            return UsedNameStore.inMemory(codec);
+        }
+    }
+
+    private TakenNameCache openTakenNames() {
+        try {
+            return TakenNameCache.open(getNamesPath(TAKEN_NAMES_FILE), TAKEN_NAME_TTL_MS);
+        } catch (IOException e) {
+            log.error("Error opening taken names cache, results will not be persisted", e);
+            return TakenNameCache.inMemory(TAKEN_NAME_TTL_MS);
+        }
+    }
+
+    private boolean recordName(String name) {
+        try {
+            return usedNames.reserve(name);
         } catch (IOException e) {
-            log.error("Error saving used names to file", e);
+            log.error("Error reserving used name", e);
+            return false;
         }
     }
 
-    private Path getUsedNamesPath() {
+    private Path getNamesPath(String fileName) {
         String userHome = System.getProperty("user.home");
-        return Paths.get(userHome, ".runelite", "microbot", USED_NAMES_FILE);
+        return Paths.get(userHome, ".runelite", "microbot", fileName);
     }
 
     public boolean isNameUsed(String name) {
-        return usedNames.contains(name.toLowerCase());
+        try {
+            return usedNames.contains(name);
+        } catch (IOException e) {
+            log.error("Error checking used names", e);
+            return false;
+        }
     }
 
     public int getUsedNameCount() {
-        return usedNames.size();
+        try {
+            return usedNames.size();
+        } catch (IOException e) {
+            log.error("Error reading used name count", e);
+            return 0;
+        }
     }
 
     public void markNameAsUsed(String name) {
-        usedNames.add(name.toLowerCase());
-        saveUsedNames();
+        recordName(name);
         log.info("Manually marked name as used: {}", name);
     }
 }
@@ -2,8 +2,8 @@ package net.runelite.client.plugins.microbot.tutorialisland.managers;
 
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.api.coords.WorldPoint;
-import net.runelite.client.plugins.microbot.Microbot;
 import net.runelite.client.plugins.microbot.tutorialisland.TutorialIslandConfig;
+import net.runelite.client.plugins.microbot.tutorialisland.models.TutorialSession;
 import net.runelite.client.plugins.microbot.util.gameobject.Rs2GameObject;
 import net.runelite.client.plugins.microbot.util.player.Rs2Player;
 import net.runelite.client.plugins.microbot.util.walker.Rs2Walker;
@@ -33,16 +33,10 @@ public class PostTutorialManager {
     private static final int FALADOR_GATE_CLOSED_ID = 24063;
     private static final int BANK_DOOR_ID = 24101;
 
-    private boolean hasReachedBank = false;
-    private WorldPoint currentWaypoint = null;
-    private int waypointIndex = 0;
-
-    private WorldPoint lastPosition = null;
-    private long lastPositionChangeTime = System.currentTimeMillis();
     private static final long STUCK_THRESHOLD_MS = 15000;
 
-    public boolean walkToFaladorBank(TutorialIslandConfig config) {
-        if (hasReachedBank) {
+    public boolean walkToFaladorBank(TutorialSession session, TutorialIslandConfig config) {
+        if (session.isReachedBank()) {
             log.debug("Already at Falador bank");
             return true;
         }
@@ -50,36 +44,37 @@ public class PostTutorialManager {
         try {
             if (isAtFaladorBank()) {
                 log.info("Arrived at Falador West Bank!");
-                hasReachedBank = true;
-                Microbot.log("Reached Falador bank successfully!");
+                session.setReachedBank(true);
+                session.getActions().showMessage("Reached Falador bank successfully!");
                 return true;
             }
 
-            currentWaypoint = getCurrentWaypoint();
-            
+            WorldPoint currentWaypoint = getCurrentWaypoint(session.getWaypointIndex());
+            session.setCurrentWaypoint(currentWaypoint);
+
             if (currentWaypoint == null) {
                 log.error("No waypoint determined");
                 return false;
             }
 
-            log.debug("Current waypoint: {} (index {})", currentWaypoint, waypointIndex);
+            log.debug("Current waypoint: {} (index {})", currentWaypoint, session.getWaypointIndex());
 
             if (hasReachedWaypoint(currentWaypoint)) {
                 log.info("Reached waypoint: {}", currentWaypoint);
-                waypointIndex++;
-                errorRecovery.resetError("walkToWaypoint_" + waypointIndex);
+                session.setWaypointIndex(session.getWaypointIndex() + 1);
+                errorRecovery.resetError(session, "walkToWaypoint_" + session.getWaypointIndex());
                 return true;
             }
 
-            return walkToWaypoint(currentWaypoint, config);
+            return walkToWaypoint(session, currentWaypoint, config);
 
         } catch (Exception e) {
             log.error("Error in post-tutorial navigation", e);
-            return errorRecovery.handleError("walkToFaladorBank", e.getMessage());
+            return errorRecovery.handleError(session, "walkToFaladorBank", e.getMessage());
         }
     }
 
-    private WorldPoint getCurrentWaypoint() {
+    private WorldPoint getCurrentWaypoint(int waypointIndex) {
         WorldPoint playerPos = Rs2Player.getWorldLocation();
 
         if (playerPos == null) {
@@ -102,14 +97,14 @@ public class PostTutorialManager {
         return FALADOR_WEST_BANK;
     }
 
-    private boolean walkToWaypoint(WorldPoint waypoint, TutorialIslandConfig config) {
+    private boolean walkToWaypoint(TutorialSession session, WorldPoint waypoint, TutorialIslandConfig config) {
         log.debug("Walking to waypoint: {}", waypoint);
 
         boolean walkStarted = Rs2Walker.walkTo(waypoint);
 
         if (!walkStarted) {
-            String errorKey = "walkToWaypoint_" + waypointIndex;
-            return errorRecovery.handleError(errorKey, 
+            String errorKey = "walkToWaypoint_" + session.getWaypointIndex();
+            return errorRecovery.handleError(session, errorKey, 
                 "Failed to start walking to waypoint: " + waypoint);
         }
 
@@ -117,7 +112,7 @@ public class PostTutorialManager {
 
         handleObstacles(waypoint, config);
 
-        errorRecovery.resetError("walkToWaypoint_" + waypointIndex);
+        errorRecovery.resetError(session, "walkToWaypoint_" + session.getWaypointIndex());
         return true;
     }
 
@@ -172,15 +167,15 @@ public class PostTutorialManager {
         return playerPos.distanceTo(FALADOR_WEST_BANK) <= BANK_ARRIVAL_DISTANCE;
     }
 
-    public void reset() {
-        hasReachedBank = false;
-        currentWaypoint = null;
-        waypointIndex = 0;
-        errorRecovery.resetAll();
+    public void reset(TutorialSession session) {
+        session.setReachedBank(false);
+        session.setCurrentWaypoint(null);
+        session.setWaypointIndex(0);
+        errorRecovery.resetAll(session);
         log.info("Post-tutorial manager reset");
     }
 
-    public int getProgressPercentage() {
+    public int getProgressPercentage(TutorialSession session) {
         WorldPoint[] waypoints = {
             LUMBRIDGE_CASTLE_COURTYARD,
             WEST_OF_LUMBRIDGE,
@@ -189,21 +184,23 @@ public class PostTutorialManager {
             FALADOR_WEST_BANK
         };
 
-        if (hasReachedBank) {
+        if (session.isReachedBank()) {
             return 100;
         }
 
         int totalWaypoints = waypoints.length;
-        int completedWaypoints = waypointIndex;
+        int completedWaypoints = session.getWaypointIndex();
 
         return (int) ((completedWaypoints / (double) totalWaypoints) * 100);
     }
 
-    public String getStatusMessage() {
-        if (hasReachedBank) {
+    public String getStatusMessage(TutorialSession session) {
+        if (session.isReachedBank()) {
             return "Arrived at Falador Bank";
         }
 
+        WorldPoint currentWaypoint = session.getCurrentWaypoint();
+
         if (currentWaypoint == null) {
             return "Calculating route...";
         }
@@ -223,14 +220,14 @@ public class PostTutorialManager {
         return "Navigating to Falador...";
     }
 
-    public int getEstimatedTimeRemaining() {
-        if (hasReachedBank) {
+    public int getEstimatedTimeRemaining(TutorialSession session) {
+        if (session.isReachedBank()) {
             return 0;
         }
 
         WorldPoint playerPos = Rs2Player.getWorldLocation();
         
-        if (playerPos == null || currentWaypoint == null) {
+        if (playerPos == null || session.getCurrentWaypoint() == null) {
             return -1;
         }
 
@@ -239,20 +236,20 @@ public class PostTutorialManager {
         return distanceRemaining + 30;
     }
 
-    public boolean isPlayerStuck() {
+    public boolean isPlayerStuck(TutorialSession session) {
         WorldPoint currentPos = Rs2Player.getWorldLocation();
 
         if (currentPos == null) {
             return false;
         }
 
-        if (lastPosition == null || !currentPos.equals(lastPosition)) {
-            lastPosition = currentPos;
-            lastPositionChangeTime = System.currentTimeMillis();
+        if (session.getLastPosition() == null || !currentPos.equals(session.getLastPosition())) {
+            session.setLastPosition(currentPos);
+            session.setLastPositionChangeTime(System.currentTimeMillis());
             return false;
         }
 
-        long timeSinceMove = System.currentTimeMillis() - lastPositionChangeTime;
+        long timeSinceMove = System.currentTimeMillis() - session.getLastPositionChangeTime();
         
         if (timeSinceMove > STUCK_THRESHOLD_MS) {
             log.warn("Player appears to be stuck at {}", currentPos);
@@ -262,9 +259,9 @@ public class PostTutorialManager {
         return false;
     }
 
-    public boolean attemptUnstuck(TutorialIslandConfig config) {
+    public boolean attemptUnstuck(TutorialSession session, TutorialIslandConfig config) {
         log.info("Attempting to unstuck player");
-        Microbot.log("Player stuck - trying to recover...");
+        session.getActions().showMessage("Player stuck - trying to recover...");
 
         WorldPoint playerPos = Rs2Player.getWorldLocation();
         
@@ -281,8 +278,8 @@ public class PostTutorialManager {
         Rs2Walker.walkTo(unstuckPoint);
         sleep(2000);
 
-        lastPosition = null;
-        lastPositionChangeTime = System.currentTimeMillis();
+        session.setLastPosition(null);
+        session.setLastPositionChangeTime(System.currentTimeMillis());
 
         return true;
     }
@@ -0,0 +1,153 @@
+package net.runelite.client.plugins.microbot.tutorialisland.managers;
+
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.client.plugins.microbot.tutorialisland.TutorialIslandConfig;
+import net.runelite.client.plugins.microbot.tutorialisland.actions.GameActions;
+import net.runelite.client.plugins.microbot.tutorialisland.enums.TutorialStage;
+import net.runelite.client.plugins.microbot.tutorialisland.models.TutorialSession;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Slf4j
+@Singleton
+public class SessionOrchestrator {
+
+    private static final long HEARTBEAT_INTERVAL_MS = 3000;
+    private static final int IDLE_WAKE_TICKS = 10;
+
+    @Inject
+    private TutorialStageManager tutorialStageManager;
+
+    @Inject
+    private NameGenerationManager nameGenerationManager;
+
+    private final Map<String, TutorialSession> sessions = new ConcurrentHashMap<>();
+
+    private TutorialIslandConfig config;
+    private ThreadPoolExecutor executor;
+    private ScheduledExecutorService heartbeat;
+    private int maxSessions;
+
+    public synchronized void start(TutorialIslandConfig config, int threads, int maxSessions) {
+        if (executor != null) {
+            log.debug("Session orchestrator already running");
+            return;
+        }
+
+        this.config = config;
+        this.maxSessions = maxSessions;
+
+        AtomicInteger threadIndex = new AtomicInteger();
+        executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(maxSessions), runnable -> {
+                Thread thread = new Thread(runnable, "tutorial-session-" + threadIndex.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+
+        heartbeat = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "tutorial-session-heartbeat");
+            thread.setDaemon(true);
+            return thread;
+        });
+        heartbeat.scheduleWithFixedDelay(this::onHeartbeat, HEARTBEAT_INTERVAL_MS,
+            HEARTBEAT_INTERVAL_MS, TimeUnit.MILLISECONDS);
+
+        log.info("Session orchestrator started with {} threads for up to {} sessions", threads, maxSessions);
+    }
+
+    public synchronized void stop() {
+        sessions.values().forEach(TutorialSession::detach);
+        sessions.clear();
+
+        if (heartbeat != null) {
+            heartbeat.shutdownNow();
+            heartbeat = null;
+        }
+
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+
+        log.info("Session orchestrator stopped");
+    }
+
+    public synchronized TutorialSession open(String sessionId, GameActions actions) {
+        if (executor == null) {
+            throw new IllegalStateException("Session orchestrator is not running");
+        }
+
+        if (sessions.containsKey(sessionId)) {
+            throw new IllegalArgumentException("Session " + sessionId + " is already open");
+        }
+
+        if (sessions.size() >= maxSessions) {
+            throw new IllegalStateException("Session limit of " + maxSessions + " reached");
+        }
+
+        TutorialSession session = new TutorialSession(sessionId, actions);
+        session.setAccountName(nameGenerationManager.generateUniqueName());
+        session.attach(executor, () -> runPass(session));
+        sessions.put(sessionId, session);
+
+        log.info("Opened session {} as {}", sessionId, session.getAccountName());
+        return session;
+    }
+
+    public void close(String sessionId) {
+        TutorialSession session = sessions.remove(sessionId);
+        if (session != null) {
+            session.detach();
+            log.info("Closed session {} at stage {}", sessionId, session.getStage());
+        }
+    }
+
+    public TutorialSession getSession(String sessionId) {
+        return sessions.get(sessionId);
+    }
+
+    public Collection<TutorialSession> getSessions() {
+        return Collections.unmodifiableCollection(sessions.values());
+    }
+
+    public int getActiveSessionCount() {
+        return sessions.size();
+    }
+
+    private void runPass(TutorialSession session) {
+        try {
+            TutorialStage stage = tutorialStageManager.detectCurrentStage(session);
+
+            if (stage == TutorialStage.COMPLETED) {
+                close(session.getId());
+                return;
+            }
+
+            if (!tutorialStageManager.handleStage(session, stage, config)) {
+                log.debug("[{}] Stage {} did not complete successfully", session.getId(), stage);
+            }
+        } catch (Exception e) {
+            log.error("[{}] Error in tutorial session pass", session.getId(), e);
+        } finally {
+            session.requestWake(IDLE_WAKE_TICKS);
+        }
+    }
+
+    private void onHeartbeat() {
+        for (TutorialSession session : sessions.values()) {
+            session.heartbeat();
+        }
+    }
+}
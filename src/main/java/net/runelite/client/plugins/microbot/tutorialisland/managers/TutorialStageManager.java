@@ -1,11 +1,12 @@
 package net.runelite.client.plugins.microbot.tutorialisland.managers;
 
 import lombok.extern.slf4j.Slf4j;
-import net.runelite.client.plugins.microbot.Microbot;
 import net.runelite.client.plugins.microbot.tutorialisland.TutorialIslandConfig;
 import net.runelite.client.plugins.microbot.tutorialisland.enums.TutorialStage;
+import net.runelite.client.plugins.microbot.tutorialisland.enums.TutorialSubStep;
+import net.runelite.client.plugins.microbot.tutorialisland.models.GameStateSnapshot;
+import net.runelite.client.plugins.microbot.tutorialisland.models.TutorialSession;
 import net.runelite.client.plugins.microbot.tutorialisland.stages.*;
-import net.runelite.client.plugins.microbot.util.player.Rs2Player;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
@@ -16,7 +17,7 @@ import java.util.Map;
 @Singleton
 public class TutorialStageManager {
 
-    private static final int TUTORIAL_ISLAND_VARBIT = 281;
+    private static final int FAILURE_RETRY_TICKS = 2;
 
     @Inject
     private ErrorRecoveryManager errorRecovery;
@@ -51,7 +52,6 @@ public class TutorialStageManager {
     @Inject
     private FinalInstructorStage finalInstructorStage;
 
-    private TutorialStage lastDetectedStage = TutorialStage.NOT_STARTED;
     private final Map<TutorialStage, IStageHandler> stageHandlers = new HashMap<>();
 
     @Inject
@@ -68,31 +68,37 @@ public class TutorialStageManager {
         stageHandlers.put(TutorialStage.FINAL_INSTRUCTOR, finalInstructorStage);
     }
 
-    public TutorialStage detectCurrentStage() {
-        if (!Microbot.isLoggedIn()) {
+    public TutorialStage detectCurrentStage(TutorialSession session) {
+        GameStateSnapshot state = session.getSnapshot();
+
+        if (!state.isLoggedIn()) {
             return TutorialStage.CHARACTER_CREATION;
         }
 
-        if (Rs2Player.hasCompletedTutorialIsland()) {
-            return TutorialStage.COMPLETED;
+        int varbitValue = state.getTutorialProgress();
+        TutorialSubStep subStep = TutorialSubStep.fromVarbit(varbitValue);
+        TutorialStage detectedStage = subStep.getStage();
+
+        if (subStep != session.getSubStep()) {
+            log.debug("[{}] Tutorial sub-step changed: {} -> {} (varbit: {})",
+                session.getId(), session.getSubStep(), subStep, varbitValue);
+            session.setSubStep(subStep);
         }
 
-        int varbitValue = Microbot.getVarbitValue(TUTORIAL_ISLAND_VARBIT);
-        TutorialStage detectedStage = TutorialStage.fromVarbit(varbitValue);
+        if (detectedStage != session.getStage()) {
+            log.info("[{}] Tutorial stage changed: {} -> {} (varbit: {})", 
+                session.getId(), session.getStage(), detectedStage, varbitValue);
+            session.getActions().showMessage("Tutorial: " + detectedStage.getDisplayName());
+            session.setStage(detectedStage);
+            session.setPendingStep(null);
 
-        if (detectedStage != lastDetectedStage) {
-            log.info("Tutorial stage changed: {} -> {} (varbit: {})", 
-                lastDetectedStage, detectedStage, varbitValue);
-            Microbot.log("Tutorial: " + detectedStage.getDisplayName());
-            lastDetectedStage = detectedStage;
-            
-            errorRecovery.resetAll();
+            errorRecovery.resetAll(session);
         }
 
         return detectedStage;
     }
 
-    public boolean handleStage(TutorialStage stage, TutorialIslandConfig config) {
+    public boolean handleStage(TutorialSession session, TutorialStage stage, TutorialIslandConfig config) {
         if (stage == TutorialStage.COMPLETED || stage == TutorialStage.NOT_STARTED) {
             return true;
         }
@@ -108,29 +114,50 @@ public class TutorialStageManager {
             return false;
         }
 
-        try {
-            boolean success = handler.execute(config);
+        GameStateSnapshot state = session.getSnapshot();
+        TutorialSubStep currentSubStep = session.getSubStep();
+        StageStep pendingStep = session.getPendingStep();
+
+        if (pendingStep != null) {
+            if (currentSubStep != session.getPendingSubStep() || pendingStep.isSatisfied(state)) {
+                errorRecovery.resetError(session, pendingStep.getAction());
+                session.setPendingStep(null);
+            } else if (session.getTickCount() < session.getPendingDeadlineTick()) {
+                session.requestWake(1);
+                return true;
+            } else {
+                session.setPendingStep(null);
 
-            if (!success) {
-                String errorKey = "stage_" + stage.name();
-                if (!errorRecovery.handleError(errorKey, "Stage handler returned false")) {
-                    log.error("Max retries reached for stage: {}", stage);
+                if (!pendingStep.isFailOnTimeout()) {
+                    errorRecovery.resetError(session, pendingStep.getAction());
+                } else if (!errorRecovery.handleError(session, pendingStep.getAction(),
+                        "Timed out waiting for " + pendingStep.getAction())) {
+                    log.error("[{}] Max retries reached for stage: {}", session.getId(), stage);
                     return false;
                 }
-            } else {
-                errorRecovery.resetError("stage_" + stage.name());
             }
+        }
 
-            return success;
-
+        StageStep step;
+        try {
+            step = handler.execute(session, config, currentSubStep, state);
         } catch (Exception e) {
-            log.error("Exception in stage handler for {}", stage, e);
-            String errorKey = "stage_" + stage.name();
-            return errorRecovery.handleError(errorKey, e.getMessage());
+            log.error("[{}] Exception in stage handler for {}", session.getId(), stage, e);
+            step = StageStep.failed("stage_" + stage.name(), e.getMessage());
+        }
+
+        if (step.isFailed()) {
+            if (!errorRecovery.handleError(session, step.getAction(), step.getFailureReason())) {
+                log.error("[{}] Max retries reached for stage: {}", session.getId(), stage);
+            }
+            session.requestWake(FAILURE_RETRY_TICKS);
+            return false;
         }
-    }
 
-    public TutorialStage getLastDetectedStage() {
-        return lastDetectedStage;
+        session.setPendingStep(step);
+        session.setPendingSubStep(currentSubStep);
+        session.setPendingDeadlineTick(session.getTickCount() + step.getTimeoutTicks());
+        session.requestWake(1);
+        return true;
     }
 }
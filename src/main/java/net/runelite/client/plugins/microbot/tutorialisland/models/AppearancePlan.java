@@ -0,0 +1,102 @@
+package net.runelite.client.plugins.microbot.tutorialisland.models;
+
+import lombok.Getter;
+import net.runelite.client.plugins.microbot.tutorialisland.enums.AppearanceSlot;
+import net.runelite.client.plugins.microbot.tutorialisland.enums.Gender;
+
+import java.util.Random;
+import java.util.SplittableRandom;
+
+public final class AppearancePlan {
+
+    public static final int UNKNOWN = -1;
+
+    private static final String SEPARATOR = ",";
+
+    @Getter
+    private final Gender gender;
+
+    private final int[] targets;
+
+    private AppearancePlan(Gender gender, int[] targets) {
+        this.gender = gender;
+        this.targets = targets;
+    }
+
+    public static AppearancePlan seeded(long seed, Gender gender) {
+        SplittableRandom random = new SplittableRandom(seed);
+        AppearanceSlot[] slots = AppearanceSlot.values();
+        int[] targets = new int[slots.length];
+
+        for (AppearanceSlot slot : slots) {
+            int options = slot.getOptionCount(gender);
+            targets[slot.ordinal()] = options > 0 ? random.nextInt(options) : 0;
+        }
+
+        return new AppearancePlan(gender, targets);
+    }
+
+    public static AppearancePlan random(Random random, Gender gender) {
+        return seeded(random.nextLong(), gender);
+    }
+
+    public static AppearancePlan decode(String encoded) {
+        AppearanceSlot[] slots = AppearanceSlot.values();
+        String[] parts = encoded.trim().split(SEPARATOR);
+        if (parts.length != slots.length + 1 || parts[0].trim().length() != 1) {
+            throw new IllegalArgumentException("Appearance preset must be a gender code and " + slots.length + " values");
+        }
+
+        Gender gender = Gender.fromCode(parts[0].trim().charAt(0));
+        int[] targets = new int[slots.length];
+        for (AppearanceSlot slot : slots) {
+            int value = parseValue(parts[slot.ordinal() + 1]);
+            int options = slot.getOptionCount(gender);
+            if (value < 0 || (options > 0 ? value >= options : value != 0)) {
+                throw new IllegalArgumentException("Invalid " + slot.getDisplayName() + " option in appearance preset");
+            }
+            targets[slot.ordinal()] = value;
+        }
+
+        return new AppearancePlan(gender, targets);
+    }
+
+    public String encode() {
+        StringBuilder encoded = new StringBuilder();
+        encoded.append(gender.getCode());
+        for (int target : targets) {
+            encoded.append(SEPARATOR).append(target);
+        }
+        return encoded.toString();
+    }
+
+    public int getTarget(AppearanceSlot slot) {
+        return targets[slot.ordinal()];
+    }
+
+    public int getClicks(AppearanceSlot slot, int current) {
+        int options = slot.getOptionCount(gender);
+        if (options <= 1) {
+            return 0;
+        }
+        if (current == UNKNOWN) {
+            return 1;
+        }
+
+        int distance = Math.floorMod(targets[slot.ordinal()] - current, options);
+        return distance > options / 2 ? distance - options : distance;
+    }
+
+    private static int parseValue(String value) {
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            return UNKNOWN;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return encode();
+    }
+}
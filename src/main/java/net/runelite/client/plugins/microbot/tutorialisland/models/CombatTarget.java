@@ -0,0 +1,24 @@
+package net.runelite.client.plugins.microbot.tutorialisland.models;
+
+import lombok.Getter;
+
+@Getter
+public final class CombatTarget {
+
+    private final int npcId;
+    private final int npcIndex;
+    private volatile boolean killed;
+
+    public CombatTarget(int npcId, int npcIndex) {
+        this.npcId = npcId;
+        this.npcIndex = npcIndex;
+    }
+
+    public boolean matches(int id, int index) {
+        return npcId == id && (npcIndex < 0 || npcIndex == index);
+    }
+
+    public void markKilled() {
+        killed = true;
+    }
+}
@@ -0,0 +1,114 @@
+package net.runelite.client.plugins.microbot.tutorialisland.models;
+
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+@Getter
+public final class DialogueScript {
+
+    public static final String ANY_NPC = "*";
+
+    private static final String FIELD_SEPARATOR = "\\|";
+    private static final String CHOICE_SEPARATOR = ";";
+
+    private final String npc;
+    private final int minProgress;
+    private final int maxProgress;
+    private final List<String> choices;
+
+    private DialogueScript(String npc, int minProgress, int maxProgress, List<String> choices) {
+        this.npc = npc;
+        this.minProgress = minProgress;
+        this.maxProgress = maxProgress;
+        this.choices = Collections.unmodifiableList(choices);
+    }
+
+    public static DialogueScript parse(String line) {
+        String[] fields = line.split(FIELD_SEPARATOR);
+        if (fields.length != 3) {
+            throw new IllegalArgumentException("Dialogue script must have npc|progress|choices: " + line);
+        }
+
+        String npc = fields[0].trim();
+        if (npc.isEmpty()) {
+            throw new IllegalArgumentException("Dialogue script has no npc: " + line);
+        }
+
+        String range = fields[1].trim();
+        int separator = range.indexOf('-', 1);
+        int minProgress;
+        int maxProgress;
+        try {
+            minProgress = Integer.parseInt((separator < 0 ? range : range.substring(0, separator)).trim());
+            maxProgress = separator < 0 ? minProgress : Integer.parseInt(range.substring(separator + 1).trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid progress range in dialogue script: " + line, e);
+        }
+        if (maxProgress < minProgress) {
+            throw new IllegalArgumentException("Empty progress range in dialogue script: " + line);
+        }
+
+        List<String> choices = new ArrayList<>();
+        for (String choice : fields[2].split(CHOICE_SEPARATOR)) {
+            String normalized = normalize(choice);
+            if (!normalized.isEmpty()) {
+                choices.add(normalized);
+            }
+        }
+        if (choices.isEmpty()) {
+            throw new IllegalArgumentException("Dialogue script has no choices: " + line);
+        }
+
+        return new DialogueScript(npc, minProgress, maxProgress, choices);
+    }
+
+    public boolean isAnyNpc() {
+        return ANY_NPC.equals(npc);
+    }
+
+    public boolean covers(int progress) {
+        return progress >= minProgress && progress <= maxProgress;
+    }
+
+    public int choose(List<String> options) {
+        for (String choice : choices) {
+            for (int i = 0; i < options.size(); i++) {
+                if (normalize(options.get(i)).contains(choice)) {
+                    return i + 1;
+                }
+            }
+        }
+        return -1;
+    }
+
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+
+        StringBuilder normalized = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                normalized.append(Character.toLowerCase(c));
+            } else if (Character.isWhitespace(c) && normalized.length() > 0
+                && normalized.charAt(normalized.length() - 1) != ' ') {
+                normalized.append(' ');
+            }
+        }
+
+        int end = normalized.length();
+        if (end > 0 && normalized.charAt(end - 1) == ' ') {
+            normalized.setLength(end - 1);
+        }
+        return normalized.toString();
+    }
+
+    @Override
+    public String toString() {
+        return npc + "|" + minProgress + "-" + maxProgress + "|" + String.join(CHOICE_SEPARATOR, choices);
+    }
+}
@@ -0,0 +1,387 @@
+package net.runelite.client.plugins.microbot.tutorialisland.models;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import net.runelite.api.Client;
+import net.runelite.api.GameState;
+import net.runelite.api.InventoryID;
+import net.runelite.api.Item;
+import net.runelite.api.ItemContainer;
+import net.runelite.api.Player;
+import net.runelite.api.coords.WorldPoint;
+import net.runelite.api.widgets.Widget;
+import net.runelite.client.plugins.microbot.util.dialogues.Rs2Dialogue;
+import net.runelite.client.plugins.microbot.util.player.Rs2Player;
+import net.runelite.client.util.Text;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+@Getter
+public final class GameStateSnapshot {
+
+    public static final int TUTORIAL_PROGRESS_VARP = 281;
+    public static final int TUTORIAL_COMPLETE_PROGRESS = 1000;
+    public static final int ACCOUNT_TYPE_VARBIT = 1777;
+
+    public static final int BANK_GROUP_ID = 12;
+    public static final int SMITHING_GROUP_ID = 312;
+    public static final int ACCOUNT_TYPE_GROUP_ID = 558;
+    public static final int CHARACTER_CREATOR_GROUP_ID = 679;
+
+    public static final int NPC_DIALOGUE_GROUP_ID = 231;
+    public static final int PLAYER_DIALOGUE_GROUP_ID = 217;
+    public static final int OPTION_DIALOGUE_GROUP_ID = 219;
+    public static final int MESSAGE_BOX_GROUP_ID = 229;
+    public static final int SPRITE_DIALOGUE_GROUP_ID = 193;
+
+    private static final int NPC_NAME_CHILD = 4;
+    private static final int DIALOGUE_TEXT_CHILD = 6;
+    private static final int OPTIONS_CHILD = 1;
+    private static final int MESSAGE_BOX_TEXT_CHILD = 1;
+    private static final int SPRITE_TEXT_CHILD = 2;
+
+    private static final int[] TRACKED_VARBITS = {ACCOUNT_TYPE_VARBIT};
+    private static final int[] TRACKED_WIDGET_GROUPS = {
+        BANK_GROUP_ID, SMITHING_GROUP_ID, ACCOUNT_TYPE_GROUP_ID, CHARACTER_CREATOR_GROUP_ID
+    };
+    private static final int[] NONE = new int[0];
+    private static final String[] NO_OPTIONS = new String[0];
+
+    public static final GameStateSnapshot EMPTY = new GameStateSnapshot(-1, false, null, -1,
+        false, false, 0, false, false, false, null, null, NO_OPTIONS, NONE, 0, NONE, NONE,
+        0, new int[TRACKED_VARBITS.length]);
+
+    private final int tick;
+    private final boolean loggedIn;
+    private final WorldPoint location;
+    private final int animation;
+    private final boolean animating;
+    private final boolean inCombat;
+    private final long experience;
+    private final boolean inDialogue;
+    private final boolean dialogueContinue;
+    private final boolean dialogueOptions;
+    private final String dialogueNpc;
+    private final String dialogueText;
+    private final int inventoryCount;
+    private final int tutorialProgress;
+
+    @Getter(AccessLevel.NONE)
+    private final String[] dialogueOptionTexts;
+
+    @Getter(AccessLevel.NONE)
+    private final int[] inventoryIds;
+    @Getter(AccessLevel.NONE)
+    private final int[] equipmentIds;
+    @Getter(AccessLevel.NONE)
+    private final int[] openWidgetGroups;
+    @Getter(AccessLevel.NONE)
+    private final int[] varbitValues;
+
+    private GameStateSnapshot(int tick, boolean loggedIn, WorldPoint location, int animation,
+                              boolean animating, boolean inCombat, long experience, boolean inDialogue,
+                              boolean dialogueContinue, boolean dialogueOptions, String dialogueNpc,
+                              String dialogueText, String[] dialogueOptionTexts, int[] inventoryIds, int inventoryCount, int[] equipmentIds,
+                              int[] openWidgetGroups, int tutorialProgress, int[] varbitValues) {
+        this.tick = tick;
+        this.loggedIn = loggedIn;
+        this.location = location;
+        this.animation = animation;
+        this.animating = animating;
+        this.inCombat = inCombat;
+        this.experience = experience;
+        this.inDialogue = inDialogue;
+        this.dialogueContinue = dialogueContinue;
+        this.dialogueOptions = dialogueOptions;
+        this.dialogueNpc = dialogueNpc;
+        this.dialogueText = dialogueText;
+        this.dialogueOptionTexts = dialogueOptionTexts;
+        this.inventoryIds = inventoryIds;
+        this.inventoryCount = inventoryCount;
+        this.equipmentIds = equipmentIds;
+        this.openWidgetGroups = openWidgetGroups;
+        this.tutorialProgress = tutorialProgress;
+        this.varbitValues = varbitValues;
+    }
+
+    public static GameStateSnapshot capture(Client client, int tick) {
+        if (client.getGameState() != GameState.LOGGED_IN) {
+            return EMPTY;
+        }
+
+        Player player = client.getLocalPlayer();
+        if (player == null) {
+            return EMPTY;
+        }
+
+        Builder builder = builder()
+            .tick(tick)
+            .location(player.getWorldLocation())
+            .animation(player.getAnimation())
+            .animating(Rs2Player.isAnimating())
+            .inCombat(Rs2Player.isInCombat())
+            .experience(client.getOverallExperience())
+            .inventory(itemIds(client.getItemContainer(InventoryID.INVENTORY)))
+            .equipment(itemIds(client.getItemContainer(InventoryID.EQUIPMENT)));
+
+        if (Rs2Dialogue.isInDialogue()) {
+            builder.dialogue(Rs2Dialogue.hasContinue(), Rs2Dialogue.hasSelectAnOption());
+            builder.dialogueText(widgetText(client, NPC_DIALOGUE_GROUP_ID, NPC_NAME_CHILD), dialogueText(client));
+            builder.dialogueOptions(optionTexts(client));
+        }
+
+        builder.tutorialProgress(client.getVarpValue(TUTORIAL_PROGRESS_VARP));
+        for (int varbitId : TRACKED_VARBITS) {
+            builder.varbit(varbitId, client.getVarbitValue(varbitId));
+        }
+
+        for (int groupId : TRACKED_WIDGET_GROUPS) {
+            Widget root = client.getWidget(groupId, 0);
+            if (root != null && !root.isHidden()) {
+                builder.openWidget(groupId);
+            }
+        }
+
+        return builder.build();
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public boolean hasItem(int itemId) {
+        return Arrays.binarySearch(inventoryIds, itemId) >= 0;
+    }
+
+    public boolean hasSameInventory(GameStateSnapshot other) {
+        return inventoryCount == other.inventoryCount && Arrays.equals(inventoryIds, other.inventoryIds);
+    }
+
+    public boolean isWearing(int itemId) {
+        return Arrays.binarySearch(equipmentIds, itemId) >= 0;
+    }
+
+    public boolean isWidgetOpen(int groupId) {
+        return Arrays.binarySearch(openWidgetGroups, groupId) >= 0;
+    }
+
+    public boolean isBankOpen() {
+        return isWidgetOpen(BANK_GROUP_ID);
+    }
+
+    public int getVarbit(int varbitId) {
+        for (int i = 0; i < TRACKED_VARBITS.length; i++) {
+            if (TRACKED_VARBITS[i] == varbitId) {
+                return varbitValues[i];
+            }
+        }
+        throw new IllegalArgumentException("Varbit " + varbitId + " is not tracked by the snapshot");
+    }
+
+    public boolean hasCompletedTutorial() {
+        return tutorialProgress >= TUTORIAL_COMPLETE_PROGRESS;
+    }
+
+    public List<String> getDialogueOptionTexts() {
+        return Collections.unmodifiableList(Arrays.asList(dialogueOptionTexts));
+    }
+
+    private static String dialogueText(Client client) {
+        String text = widgetText(client, NPC_DIALOGUE_GROUP_ID, DIALOGUE_TEXT_CHILD);
+        if (text == null) {
+            text = widgetText(client, PLAYER_DIALOGUE_GROUP_ID, DIALOGUE_TEXT_CHILD);
+        }
+        if (text == null) {
+            text = widgetText(client, MESSAGE_BOX_GROUP_ID, MESSAGE_BOX_TEXT_CHILD);
+        }
+        if (text == null) {
+            text = widgetText(client, SPRITE_DIALOGUE_GROUP_ID, SPRITE_TEXT_CHILD);
+        }
+        return text;
+    }
+
+    private static String widgetText(Client client, int groupId, int childId) {
+        Widget widget = client.getWidget(groupId, childId);
+        if (widget == null || widget.isHidden()) {
+            return null;
+        }
+
+        String text = widget.getText();
+        return text == null || text.isEmpty() ? null : Text.removeTags(text);
+    }
+
+    private static String[] optionTexts(Client client) {
+        Widget options = client.getWidget(OPTION_DIALOGUE_GROUP_ID, OPTIONS_CHILD);
+        if (options == null || options.isHidden() || options.getDynamicChildren() == null) {
+            return NO_OPTIONS;
+        }
+
+        Widget[] children = options.getDynamicChildren();
+        String[] texts = new String[children.length];
+        int count = 0;
+        for (int i = 1; i < children.length; i++) {
+            String text = children[i].getText();
+            if (text != null && !text.isEmpty()) {
+                texts[count++] = Text.removeTags(text);
+            }
+        }
+        return Arrays.copyOf(texts, count);
+    }
+
+    private static int[] itemIds(ItemContainer container) {
+        if (container == null) {
+            return NONE;
+        }
+
+        Item[] items = container.getItems();
+        int[] ids = new int[items.length];
+        for (int i = 0; i < items.length; i++) {
+            ids[i] = items[i].getId();
+        }
+        return ids;
+    }
+
+    private static int[] toIdSet(int[] itemIds) {
+        int[] ids = new int[itemIds.length];
+        int count = 0;
+        for (int id : itemIds) {
+            if (id > 0) {
+                ids[count++] = id;
+            }
+        }
+
+        Arrays.sort(ids, 0, count);
+        int distinct = 0;
+        for (int i = 0; i < count; i++) {
+            if (distinct == 0 || ids[distinct - 1] != ids[i]) {
+                ids[distinct++] = ids[i];
+            }
+        }
+
+        return Arrays.copyOf(ids, distinct);
+    }
+
+    private static int countItems(int[] itemIds) {
+        int count = 0;
+        for (int id : itemIds) {
+            if (id > 0) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    public static final class Builder {
+
+        private int tick;
+        private WorldPoint location;
+        private int animation = -1;
+        private boolean animating;
+        private boolean inCombat;
+        private long experience;
+        private boolean inDialogue;
+        private boolean dialogueContinue;
+        private boolean dialogueOptions;
+        private String dialogueNpc;
+        private String dialogueText;
+        private String[] dialogueOptionTexts = NO_OPTIONS;
+        private int[] inventory = NONE;
+        private int[] equipment = NONE;
+        private int[] openWidgetGroups = NONE;
+        private int tutorialProgress;
+        private final int[] varbitValues = new int[TRACKED_VARBITS.length];
+
+        private Builder() {
+        }
+
+        public Builder tick(int tick) {
+            this.tick = tick;
+            return this;
+        }
+
+        public Builder location(WorldPoint location) {
+            this.location = location;
+            return this;
+        }
+
+        public Builder animation(int animation) {
+            this.animation = animation;
+            return this;
+        }
+
+        public Builder animating(boolean animating) {
+            this.animating = animating;
+            return this;
+        }
+
+        public Builder inCombat(boolean inCombat) {
+            this.inCombat = inCombat;
+            return this;
+        }
+
+        public Builder experience(long experience) {
+            this.experience = experience;
+            return this;
+        }
+
+        public Builder dialogue(boolean hasContinue, boolean hasOptions) {
+            this.inDialogue = true;
+            this.dialogueContinue = hasContinue;
+            this.dialogueOptions = hasOptions;
+            return this;
+        }
+
+        public Builder dialogueText(String npc, String text) {
+            this.dialogueNpc = npc;
+            this.dialogueText = text;
+            return this;
+        }
+
+        public Builder dialogueOptions(String... options) {
+            this.dialogueOptionTexts = options;
+            return this;
+        }
+
+        public Builder inventory(int... itemIds) {
+            this.inventory = itemIds;
+            return this;
+        }
+
+        public Builder equipment(int... itemIds) {
+            this.equipment = itemIds;
+            return this;
+        }
+
+        public Builder openWidget(int groupId) {
+            int[] groups = Arrays.copyOf(openWidgetGroups, openWidgetGroups.length + 1);
+            groups[groups.length - 1] = groupId;
+            Arrays.sort(groups);
+            this.openWidgetGroups = groups;
+            return this;
+        }
+
+        public Builder tutorialProgress(int tutorialProgress) {
+            this.tutorialProgress = tutorialProgress;
+            return this;
+        }
+
+        public Builder varbit(int varbitId, int value) {
+            for (int i = 0; i < TRACKED_VARBITS.length; i++) {
+                if (TRACKED_VARBITS[i] == varbitId) {
+                    varbitValues[i] = value;
+                    return this;
+                }
+            }
+            throw new IllegalArgumentException("Varbit " + varbitId + " is not tracked by the snapshot");
+        }
+
+        public GameStateSnapshot build() {
+            return new GameStateSnapshot(tick, true, location, animation, animating, inCombat, experience,
+                inDialogue, dialogueContinue, dialogueOptions, dialogueNpc, dialogueText,
+                dialogueOptionTexts.clone(), toIdSet(inventory), countItems(inventory),
+                toIdSet(equipment), openWidgetGroups, tutorialProgress, varbitValues.clone());
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package net.runelite.client.plugins.microbot.tutorialisland.models;
+
+import lombok.Getter;
+import net.runelite.api.coords.WorldPoint;
+import net.runelite.client.plugins.microbot.tutorialisland.enums.GatheringResource;
+
+@Getter
+public final class GatheringTarget {
+
+    private final GatheringResource resource;
+    private final WorldPoint location;
+    private volatile boolean depleted;
+
+    public GatheringTarget(GatheringResource resource, WorldPoint location) {
+        this.resource = resource;
+        this.location = location;
+    }
+
+    public boolean matches(int id, WorldPoint at) {
+        return resource.getId() == id && (location == null || location.equals(at));
+    }
+
+    public void markDepleted() {
+        depleted = true;
+    }
+}
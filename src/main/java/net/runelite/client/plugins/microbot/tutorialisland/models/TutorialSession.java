@@ -0,0 +1,204 @@
+package net.runelite.client.plugins.microbot.tutorialisland.models;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.api.coords.WorldPoint;
+import net.runelite.client.plugins.microbot.tutorialisland.actions.GameActions;
+import net.runelite.client.plugins.microbot.tutorialisland.enums.TutorialStage;
+import net.runelite.client.plugins.microbot.tutorialisland.enums.TutorialSubStep;
+import net.runelite.client.plugins.microbot.tutorialisland.stages.StageStep;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Slf4j
+public class TutorialSession {
+
+    private static final long TICK_STALL_MS = 1800;
+
+    @Getter
+    private final String id;
+
+    @Getter
+    private final GameActions actions;
+
+    @Getter
+    private final Map<String, Integer> retryCounts = new HashMap<>();
+
+    @Getter
+    private final Map<String, String> lastErrors = new HashMap<>();
+
+    private final AtomicBoolean dirty = new AtomicBoolean(true);
+    private final AtomicBoolean passInFlight = new AtomicBoolean(false);
+
+    private volatile Executor executor;
+    private volatile Runnable pass;
+    private volatile int tickCount = 0;
+    private volatile int wakeTick = -1;
+    private volatile long lastTickTime = 0;
+    private volatile GameStateSnapshot snapshot = GameStateSnapshot.EMPTY;
+
+    @Getter
+    @Setter
+    private TutorialStage stage = TutorialStage.NOT_STARTED;
+
+    @Getter
+    @Setter
+    private TutorialSubStep subStep = TutorialSubStep.NONE;
+
+    @Getter
+    @Setter
+    private StageStep pendingStep;
+
+    @Getter
+    @Setter
+    private TutorialSubStep pendingSubStep = TutorialSubStep.NONE;
+
+    @Getter
+    @Setter
+    private int pendingDeadlineTick = 0;
+
+    @Getter
+    @Setter
+    private volatile String accountName;
+
+    @Getter
+    @Setter
+    private volatile AppearancePlan appearancePlan;
+
+    @Getter
+    @Setter
+    private int waypointIndex = 0;
+
+    @Getter
+    @Setter
+    private WorldPoint currentWaypoint;
+
+    @Getter
+    @Setter
+    private boolean reachedBank = false;
+
+    @Getter
+    @Setter
+    private WorldPoint lastPosition;
+
+    @Getter
+    @Setter
+    private volatile GatheringTarget gatheringTarget;
+
+    @Getter
+    @Setter
+    private volatile CombatTarget combatTarget;
+
+    @Getter
+    @Setter
+    private long lastPositionChangeTime = System.currentTimeMillis();
+
+    public TutorialSession(String id, GameActions actions) {
+        this.id = id;
+        this.actions = actions;
+    }
+
+    public void attach(Executor executor, Runnable pass) {
+        this.executor = executor;
+        this.pass = pass;
+        dirty.set(true);
+        passInFlight.set(false);
+        wakeTick = -1;
+        snapshot = GameStateSnapshot.EMPTY;
+    }
+
+    public void detach() {
+        pass = null;
+        executor = null;
+    }
+
+    public void advanceTick(GameStateSnapshot captured) {
+        tickCount++;
+        lastTickTime = System.currentTimeMillis();
+        snapshot = captured;
+
+        int wake = wakeTick;
+        if (wake >= 0 && tickCount >= wake) {
+            wakeTick = -1;
+            dirty.set(true);
+        }
+
+        if (dirty.get()) {
+            dispatch();
+        }
+    }
+
+    public void refresh(GameStateSnapshot captured) {
+        snapshot = captured;
+        dirty.set(true);
+        dispatch();
+    }
+
+    public void loggedOut() {
+        snapshot = GameStateSnapshot.EMPTY;
+        dirty.set(true);
+        dispatch();
+    }
+
+    public void heartbeat() {
+        if (System.currentTimeMillis() - lastTickTime < TICK_STALL_MS) {
+            return;
+        }
+
+        dirty.set(true);
+        dispatch();
+    }
+
+    public void requestWake(int ticksFromNow) {
+        int target = tickCount + Math.max(1, ticksFromNow);
+        int current = wakeTick;
+        if (current < 0 || target < current) {
+            wakeTick = target;
+        }
+    }
+
+    public void markDirty() {
+        dirty.set(true);
+    }
+
+    public int getTickCount() {
+        return tickCount;
+    }
+
+    public GameStateSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    private void dispatch() {
+        Executor target = executor;
+        Runnable task = pass;
+
+        if (target == null || task == null) {
+            return;
+        }
+
+        if (!passInFlight.compareAndSet(false, true)) {
+            return;
+        }
+
+        dirty.set(false);
+
+        try {
+            target.execute(() -> {
+                try {
+                    task.run();
+                } finally {
+                    passInFlight.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            passInFlight.set(false);
+            log.debug("Executor rejected pass for session {}, executor is shutting down", id);
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package net.runelite.client.plugins.microbot.tutorialisland.names;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Random;
+
+public class MappedWordlist {
+
+    private final Path path;
+
+    private volatile MappedByteBuffer buffer;
+    private int[] ranges;
+    private int lines;
+
+    public MappedWordlist(Path path) {
+        this.path = path;
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    public int size() {
+        ensureMapped();
+        return lines;
+    }
+
+    public String get(int index) {
+        ensureMapped();
+        int start = ranges[index * 2];
+        byte[] bytes = new byte[ranges[index * 2 + 1] - start];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = buffer.get(start + i);
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    public String random(Random random) {
+        int size = size();
+        return size == 0 ? null : get(random.nextInt(size));
+    }
+
+    private void ensureMapped() {
+        if (buffer != null) {
+            return;
+        }
+
+        synchronized (this) {
+            if (buffer != null) {
+                return;
+            }
+
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                if (channel.size() > Integer.MAX_VALUE) {
+                    throw new IOException("Wordlist " + path + " is larger than 2 GB");
+                }
+
+                MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                index(mapped);
+                buffer = mapped;
+            } catch (IOException e) {
+                throw new UncheckedIOException("Error mapping wordlist " + path, e);
+            }
+        }
+    }
+
+    private void index(MappedByteBuffer mapped) {
+        int[] found = new int[2048];
+        int count = 0;
+        int limit = mapped.limit();
+        int lineStart = 0;
+
+        for (int i = 0; i <= limit; i++) {
+            if (i < limit && mapped.get(i) != '\n') {
+                continue;
+            }
+
+            int start = lineStart;
+            int end = i;
+            while (start < end && isWhitespace(mapped.get(start))) {
+                start++;
+            }
+            while (end > start && isWhitespace(mapped.get(end - 1))) {
+                end--;
+            }
+
+            if (end > start) {
+                if (count * 2 + 2 > found.length) {
+                    found = Arrays.copyOf(found, found.length * 2);
+                }
+                found[count * 2] = start;
+                found[count * 2 + 1] = end;
+                count++;
+            }
+            lineStart = i + 1;
+        }
+
+        ranges = Arrays.copyOf(found, count * 2);
+        lines = count;
+    }
+
+    private static boolean isWhitespace(byte b) {
+        return b == ' ' || b == '\t' || b == '\r';
+    }
+}
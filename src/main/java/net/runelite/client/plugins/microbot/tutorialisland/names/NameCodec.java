@@ -0,0 +1,108 @@
+package net.runelite.client.plugins.microbot.tutorialisland.names;
+
+public final class NameCodec {
+
+    private final String[] adjectives;
+    private final String[] nouns;
+    private final int maxNumber;
+    private final int size;
+    private final long signature;
+
+    public NameCodec(String[] adjectives, String[] nouns, int maxNumber) {
+        this.adjectives = adjectives.clone();
+        this.nouns = nouns.clone();
+        this.maxNumber = maxNumber;
+        this.size = Math.multiplyExact(Math.multiplyExact(adjectives.length, nouns.length), maxNumber);
+        this.signature = computeSignature();
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public long getSignature() {
+        return signature;
+    }
+
+    public int encode(CharSequence name) {
+        int length = name.length();
+        for (int a = 0; a < adjectives.length; a++) {
+            String adjective = adjectives[a];
+            if (!matches(name, 0, adjective)) {
+                continue;
+            }
+
+            int nounStart = adjective.length();
+            for (int n = 0; n < nouns.length; n++) {
+                String noun = nouns[n];
+                if (!matches(name, nounStart, noun)) {
+                    continue;
+                }
+
+                int number = parseNumber(name, nounStart + noun.length(), length);
+                if (number > 0) {
+                    return (a * nouns.length + n) * maxNumber + (number - 1);
+                }
+            }
+        }
+        return -1;
+    }
+
+    public String decode(int code) {
+        int number = code % maxNumber + 1;
+        int pair = code / maxNumber;
+        return adjectives[pair / nouns.length] + nouns[pair % nouns.length] + number;
+    }
+
+    private int parseNumber(CharSequence name, int start, int end) {
+        if (start >= end || end - start > 9 || name.charAt(start) == '0') {
+            return -1;
+        }
+
+        int number = 0;
+        for (int i = start; i < end; i++) {
+            char c = name.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            number = number * 10 + (c - '0');
+        }
+        return number <= maxNumber ? number : -1;
+    }
+
+    private static boolean matches(CharSequence name, int offset, String word) {
+        if (name.length() - offset < word.length()) {
+            return false;
+        }
+
+        for (int i = 0; i < word.length(); i++) {
+            char expected = word.charAt(i);
+            char actual = name.charAt(offset + i);
+            if (actual != expected && Character.toLowerCase(actual) != Character.toLowerCase(expected)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private long computeSignature() {
+        long hash = 0xcbf29ce484222325L;
+        for (String word : adjectives) {
+            hash = mix(hash, word);
+        }
+        hash = mix(hash, "|");
+        for (String word : nouns) {
+            hash = mix(hash, word);
+        }
+        return (hash ^ maxNumber) * 0x100000001b3L;
+    }
+
+    private static long mix(long hash, String word) {
+        for (int i = 0; i < word.length(); i++) {
+            hash ^= Character.toLowerCase(word.charAt(i));
+            hash *= 0x100000001b3L;
+        }
+        hash ^= ',';
+        return hash * 0x100000001b3L;
+    }
+}
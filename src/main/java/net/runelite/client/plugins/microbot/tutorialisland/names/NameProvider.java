@@ -0,0 +1,12 @@
+package net.runelite.client.plugins.microbot.tutorialisland.names;
+
+import java.util.Random;
+
+public interface NameProvider {
+
+    String getId();
+
+    double getWeight();
+
+    String generate(Random random);
+}
@@ -0,0 +1,76 @@
+package net.runelite.client.plugins.microbot.tutorialisland.names;
+
+import java.util.Random;
+
+public class SyllableNameProvider implements NameProvider {
+
+    private static final String[] ONSETS = {
+        "b", "br", "c", "ch", "d", "dr", "f", "g", "gr", "h", "j", "k", "kr", "l", "m",
+        "n", "p", "r", "s", "sh", "st", "t", "th", "tr", "v", "w", "z"
+    };
+
+    private static final String[] NUCLEI = {
+        "a", "e", "i", "o", "u", "ae", "ai", "ea", "ia", "io", "ou", "y"
+    };
+
+    private static final String[] CODAS = {
+        "", "", "", "n", "r", "l", "s", "th", "rn", "nd", "x", "k", "m", "sh"
+    };
+
+    private static final int MIN_SYLLABLES = 2;
+    private static final int MAX_SYLLABLES = 3;
+    private static final int MAX_NAME_LENGTH = 12;
+    private static final double NUMBER_CHANCE = 0.5;
+    private static final String WEIGHT_PROPERTY = "microbot.names.syllables.weight";
+    private static final double DEFAULT_WEIGHT = 0;
+
+    private final double weight = readWeight();
+
+    @Override
+    public String getId() {
+        return "syllables";
+    }
+
+    @Override
+    public double getWeight() {
+        return weight;
+    }
+
+    @Override
+    public String generate(Random random) {
+        int syllables = MIN_SYLLABLES + random.nextInt(MAX_SYLLABLES - MIN_SYLLABLES + 1);
+        StringBuilder name = new StringBuilder(MAX_NAME_LENGTH);
+
+        for (int i = 0; i < syllables; i++) {
+            name.append(ONSETS[random.nextInt(ONSETS.length)]);
+            name.append(NUCLEI[random.nextInt(NUCLEI.length)]);
+            if (i == syllables - 1 || random.nextBoolean()) {
+                name.append(CODAS[random.nextInt(CODAS.length)]);
+            }
+        }
+
+        if (name.length() > MAX_NAME_LENGTH) {
+            name.setLength(MAX_NAME_LENGTH);
+        }
+        name.setCharAt(0, Character.toUpperCase(name.charAt(0)));
+
+        int room = MAX_NAME_LENGTH - name.length();
+        if (room >= 2 && random.nextDouble() < NUMBER_CHANCE) {
+            name.append(random.nextInt(room >= 3 ? 999 : 99) + 1);
+        }
+        return name.toString();
+    }
+
+    private static double readWeight() {
+        String value = System.getProperty(WEIGHT_PROPERTY);
+        if (value == null) {
+            return DEFAULT_WEIGHT;
+        }
+
+        try {
+            return Double.parseDouble(value.trim());
+        } catch (NumberFormatException e) {
+            return DEFAULT_WEIGHT;
+        }
+    }
+}
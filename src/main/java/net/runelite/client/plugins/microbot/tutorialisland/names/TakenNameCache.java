@@ -0,0 +1,175 @@
+package net.runelite.client.plugins.microbot.tutorialisland.names;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Slf4j
+public class TakenNameCache {
+
+    private static final int COMPACTION_MIN_APPENDS = 256;
+
+    private static final Map<Path, ReentrantLock> PROCESS_LOCKS = new ConcurrentHashMap<>();
+
+    private final Path path;
+    private final Path lockPath;
+    private final ReentrantLock lock;
+    private final long ttlMillis;
+    private final Map<String, Long> expiries = new ConcurrentHashMap<>();
+
+    private FileChannel lockChannel;
+    private int appended;
+
+    private TakenNameCache(Path path, long ttlMillis) {
+        this.path = path;
+        this.ttlMillis = ttlMillis;
+
+        if (path == null) {
+            this.lockPath = null;
+            this.lock = new ReentrantLock();
+        } else {
+            this.lockPath = path.resolveSibling(path.getFileName() + ".lock");
+            this.lock = PROCESS_LOCKS.computeIfAbsent(path.toAbsolutePath().normalize(), key -> new ReentrantLock());
+        }
+    }
+
+    public static TakenNameCache open(Path path, long ttlMillis) throws IOException {
+        TakenNameCache cache = new TakenNameCache(path, ttlMillis);
+        cache.load();
+        return cache;
+    }
+
+    public static TakenNameCache inMemory(long ttlMillis) {
+        return new TakenNameCache(null, ttlMillis);
+    }
+
+    public boolean isTaken(String name) {
+        String key = name.toLowerCase();
+        Long expiry = expiries.get(key);
+        if (expiry == null) {
+            return false;
+        }
+
+        if (expiry > System.currentTimeMillis()) {
+            return true;
+        }
+
+        expiries.remove(key, expiry);
+        return false;
+    }
+
+    public void markTaken(String name) throws IOException {
+        String key = name.toLowerCase();
+        long expiry = System.currentTimeMillis() + ttlMillis;
+        expiries.put(key, expiry);
+        append(key, expiry);
+    }
+
+    public void markAvailable(String name) throws IOException {
+        String key = name.toLowerCase();
+        if (expiries.remove(key) != null) {
+            append(key, 0);
+        }
+    }
+
+    public int size() {
+        long now = System.currentTimeMillis();
+        expiries.values().removeIf(expiry -> expiry <= now);
+        return expiries.size();
+    }
+
+    private void append(String key, long expiry) throws IOException {
+        if (path == null) {
+            return;
+        }
+
+        lock.lock();
+        try (FileLock ignored = lockChannel.lock()) {
+            Files.write(path, (key + '\t' + expiry + '\n').getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+
+            if (++appended > Math.max(COMPACTION_MIN_APPENDS, expiries.size())) {
+                rewrite();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void load() throws IOException {
+        Files.createDirectories(path.getParent());
+        lockChannel = FileChannel.open(lockPath, StandardOpenOption.CREATE, StandardOpenOption.READ,
+            StandardOpenOption.WRITE);
+
+        lock.lock();
+        try (FileLock ignored = lockChannel.lock()) {
+            rewrite();
+        } finally {
+            lock.unlock();
+        }
+        log.info("Loaded {} names known to be taken", expiries.size());
+    }
+
+    private void rewrite() throws IOException {
+        Map<String, Long> stored = read();
+        long now = System.currentTimeMillis();
+        Path rewritten = path.resolveSibling(path.getFileName() + ".tmp");
+
+        try (BufferedWriter writer = Files.newBufferedWriter(rewritten, StandardCharsets.UTF_8)) {
+            for (Map.Entry<String, Long> entry : stored.entrySet()) {
+                if (entry.getValue() <= now) {
+                    expiries.remove(entry.getKey());
+                    continue;
+                }
+                expiries.put(entry.getKey(), entry.getValue());
+                writer.write(entry.getKey());
+                writer.write('\t');
+                writer.write(Long.toString(entry.getValue()));
+                writer.write('\n');
+            }
+        }
+
+        Files.move(rewritten, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        appended = 0;
+    }
+
+    private Map<String, Long> read() throws IOException {
+        Map<String, Long> stored = new HashMap<>();
+        if (!Files.exists(path)) {
+            return stored;
+        }
+
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                int separator = line.indexOf('\t');
+                if (separator <= 0) {
+                    continue;
+                }
+
+                long expiry;
+                try {
+                    expiry = Long.parseLong(line.substring(separator + 1).trim());
+                } catch (NumberFormatException e) {
+                    continue;
+                }
+
+                stored.put(line.substring(0, separator).trim().toLowerCase(), expiry);
+            }
+        }
+        return stored;
+    }
+}
@@ -0,0 +1,596 @@
+package net.runelite.client.plugins.microbot.tutorialisland.names;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Slf4j
+public class UsedNameStore implements Closeable {
+
+    private static final int MAGIC = 0x4D424E58;
+    private static final int BITS_MAGIC = 0x4D424E42;
+    private static final int VERSION = 1;
+    private static final int BITS_VERSION = 2;
+
+    private static final int MAGIC_OFFSET = 0;
+    private static final int VERSION_OFFSET = 4;
+    private static final int CAPACITY_OFFSET = 8;
+    private static final int COUNT_OFFSET = 12;
+    private static final int LOG_ENTRIES_OFFSET = 16;
+    private static final int GENERATION_OFFSET = 20;
+    private static final int LOG_LENGTH_OFFSET = 24;
+    private static final int HEADER_SIZE = 32;
+
+    private static final int SIGNATURE_OFFSET = 8;
+    private static final int PATTERN_COUNT_OFFSET = 16;
+
+    private static final int MIN_CAPACITY = 1 << 12;
+    private static final int COMPACTION_MIN_DUPLICATES = 1024;
+
+    private static final int BLOCK_BITS = 1 << 12;
+    private static final int BLOOM_BITS = 1 << 23;
+    private static final int BLOOM_HASHES = 5;
+
+    private static final Map<Path, ReentrantLock> PROCESS_LOCKS = new ConcurrentHashMap<>();
+
+    private final Path logPath;
+    private final Path indexPath;
+    private final Path bitsPath;
+    private final Path lockPath;
+    private final ReentrantLock lock;
+    private final NameCodec codec;
+    private final int blockOffset;
+    private final int blocks;
+    private final int bloomOffset;
+    private final int bitsSize;
+
+    private FileChannel logChannel;
+    private FileChannel indexChannel;
+    private FileChannel bitsChannel;
+    private FileChannel lockChannel;
+    private ByteBuffer index;
+    private ByteBuffer bits;
+    private int capacity;
+    private int mask;
+    private int generation;
+
+    private UsedNameStore(Path logPath, NameCodec codec) {
+        this.logPath = logPath;
+        this.codec = codec;
+        this.blockOffset = HEADER_SIZE + ((codec.size() + 63) >>> 6) * Long.BYTES;
+        this.blocks = (codec.size() + BLOCK_BITS - 1) / BLOCK_BITS;
+        this.bloomOffset = blockOffset + ((blocks + 1) >>> 1) * Long.BYTES;
+        this.bitsSize = bloomOffset + BLOOM_BITS / Byte.SIZE;
+
+        if (logPath == null) {
+            this.indexPath = null;
+            this.bitsPath = null;
+            this.lockPath = null;
+            this.lock = new ReentrantLock();
+        } else {
+            this.indexPath = logPath.resolveSibling(logPath.getFileName() + ".idx");
+            this.bitsPath = logPath.resolveSibling(logPath.getFileName() + ".bits");
+            this.lockPath = logPath.resolveSibling(logPath.getFileName() + ".lock");
+            this.lock = PROCESS_LOCKS.computeIfAbsent(logPath.toAbsolutePath().normalize(), path -> new ReentrantLock());
+        }
+    }
+
+    public static UsedNameStore open(Path logPath, NameCodec codec) throws IOException {
+        UsedNameStore store = new UsedNameStore(logPath, codec);
+        store.load();
+        return store;
+    }
+
+    public static UsedNameStore inMemory(NameCodec codec) {
+        UsedNameStore store = new UsedNameStore(null, codec);
+        store.index = allocateIndex(MIN_CAPACITY);
+        store.initializeHeader(MIN_CAPACITY);
+        store.bits = ByteBuffer.allocate(store.bitsSize).order(ByteOrder.nativeOrder());
+        store.initializeBits();
+        return store;
+    }
+
+    public boolean contains(String name) throws IOException {
+        int code = codec.encode(name);
+        if (code >= 0) {
+            return isPatternUsed(code);
+        }
+
+        long fingerprint = fingerprint(name);
+        if (!mightContain(fingerprint)) {
+            return false;
+        }
+        return locked(true, () -> containsFingerprint(fingerprint));
+    }
+
+    public boolean isPatternUsed(int code) {
+        int offset = HEADER_SIZE + (code >>> 6) * Long.BYTES;
+        return (bits.getLong(offset) & (1L << code)) != 0;
+    }
+
+    public String pickFree(Random random) throws IOException {
+        return locked(true, () -> {
+            int free = codec.size() - bits.getInt(PATTERN_COUNT_OFFSET);
+            if (free <= 0) {
+                return null;
+            }
+            return codec.decode(selectFree(random.nextInt(free)));
+        });
+    }
+
+    public boolean reserve(String name) throws IOException {
+        int code = codec.encode(name);
+        long fingerprint = code >= 0 ? 0 : fingerprint(name);
+
+        return locked(false, () -> {
+            if (code >= 0 ? isPatternUsed(code) : containsFingerprint(fingerprint)) {
+                return false;
+            }
+
+            long written = logChannel != null ? appendLine(name.toLowerCase()) : 0;
+            record(code, fingerprint);
+            index.putInt(LOG_ENTRIES_OFFSET, index.getInt(LOG_ENTRIES_OFFSET) + 1);
+            index.putLong(LOG_LENGTH_OFFSET, index.getLong(LOG_LENGTH_OFFSET) + written);
+            return true;
+        });
+    }
+
+    public int size() throws IOException {
+        return locked(true, this::distinctNames);
+    }
+
+    public void compact() throws IOException {
+        locked(false, () -> {
+            compactLocked();
+            return null;
+        });
+    }
+
+    private void compactLocked() throws IOException {
+        if (logChannel == null) {
+            return;
+        }
+
+        int duplicates = index.getInt(LOG_ENTRIES_OFFSET) - distinctNames();
+        Path compacted = logPath.resolveSibling(logPath.getFileName() + ".compact");
+        int seenCapacity = Math.max(MIN_CAPACITY, Integer.highestOneBit(Math.max(1, distinctNames())) << 2);
+        ByteBuffer seen = allocateIndex(seenCapacity);
+
+        int entries = 0;
+        long length = 0;
+        logChannel.force(false);
+        try (BufferedReader reader = Files.newBufferedReader(logPath, StandardCharsets.UTF_8);
+             BufferedWriter writer = Files.newBufferedWriter(compacted, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String name = line.trim().toLowerCase();
+                if (name.isEmpty() || !insertInto(seen, seenCapacity - 1, fingerprint(name))) {
+                    continue;
+                }
+                writer.write(name);
+                writer.write('\n');
+                entries++;
+                length += name.getBytes(StandardCharsets.UTF_8).length + 1;
+            }
+        }
+
+        logChannel.close();
+        Files.move(compacted, logPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        logChannel = FileChannel.open(logPath, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+
+        generation = index.getInt(GENERATION_OFFSET) + 1;
+        index.putInt(GENERATION_OFFSET, generation);
+        index.putInt(LOG_ENTRIES_OFFSET, entries);
+        index.putLong(LOG_LENGTH_OFFSET, length);
+        log.info("Compacted used name log, dropped {} duplicate entries", duplicates);
+    }
+
+    @Override
+    public void close() throws IOException {
+        lock.lock();
+        try {
+            if (index instanceof MappedByteBuffer) {
+                ((MappedByteBuffer) index).force();
+            }
+            if (bits instanceof MappedByteBuffer) {
+                ((MappedByteBuffer) bits).force();
+            }
+            if (logChannel != null) {
+                logChannel.close();
+                logChannel = null;
+            }
+            if (indexChannel != null) {
+                indexChannel.close();
+                indexChannel = null;
+            }
+            if (bitsChannel != null) {
+                bitsChannel.close();
+                bitsChannel = null;
+            }
+            if (lockChannel != null) {
+                lockChannel.close();
+                lockChannel = null;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private <T> T locked(boolean shared, LockedOperation<T> operation) throws IOException {
+        lock.lock();
+        try {
+            if (lockChannel == null) {
+                return operation.run();
+            }
+
+            try (FileLock ignored = lockChannel.lock(0, Long.MAX_VALUE, shared)) {
+                refresh();
+                return operation.run();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void refresh() throws IOException {
+        int storedCapacity = index.getInt(CAPACITY_OFFSET);
+        if (storedCapacity != capacity) {
+            mapIndex(storedCapacity);
+        }
+
+        int storedGeneration = index.getInt(GENERATION_OFFSET);
+        if (storedGeneration != generation) {
+            logChannel.close();
+            logChannel = FileChannel.open(logPath, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+            generation = storedGeneration;
+        }
+    }
+
+    private void load() throws IOException {
+        Files.createDirectories(logPath.getParent());
+        lockChannel = FileChannel.open(lockPath, StandardOpenOption.CREATE, StandardOpenOption.READ,
+            StandardOpenOption.WRITE);
+
+        lock.lock();
+        try (FileLock ignored = lockChannel.lock()) {
+            loadLocked();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void loadLocked() throws IOException {
+        logChannel = FileChannel.open(logPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+            StandardOpenOption.APPEND);
+        indexChannel = FileChannel.open(indexPath, StandardOpenOption.CREATE, StandardOpenOption.READ,
+            StandardOpenOption.WRITE);
+        bitsChannel = FileChannel.open(bitsPath, StandardOpenOption.CREATE, StandardOpenOption.READ,
+            StandardOpenOption.WRITE);
+
+        boolean bitsValid = bitsChannel.size() >= bitsSize;
+        bits = bitsChannel.map(FileChannel.MapMode.READ_WRITE, 0, bitsSize).order(ByteOrder.nativeOrder());
+        bitsValid = bitsValid && bits.getInt(MAGIC_OFFSET) == BITS_MAGIC && bits.getInt(VERSION_OFFSET) == BITS_VERSION
+            && bits.getLong(SIGNATURE_OFFSET) == codec.getSignature();
+
+        long logSize = logChannel.size();
+        boolean valid = bitsValid && indexChannel.size() >= HEADER_SIZE && mapExisting()
+            && index.getLong(LOG_LENGTH_OFFSET) <= logSize;
+
+        if (!valid) {
+            log.info("Building used name index from {}", logPath);
+            mapIndex(MIN_CAPACITY);
+            initializeHeader(MIN_CAPACITY);
+            initializeBits();
+        }
+
+        long indexed = index.getLong(LOG_LENGTH_OFFSET);
+        if (indexed < logSize) {
+            replay(indexed, logSize);
+        }
+
+        generation = index.getInt(GENERATION_OFFSET);
+
+        int duplicates = index.getInt(LOG_ENTRIES_OFFSET) - distinctNames();
+        if (duplicates > Math.max(COMPACTION_MIN_DUPLICATES, distinctNames() / 4)) {
+            try {
+                compactLocked();
+            } catch (IOException e) {
+                log.warn("Failed to compact used name log, continuing with the existing log", e);
+            }
+        }
+
+        log.info("Loaded {} previously used names", distinctNames());
+    }
+
+    private boolean mapExisting() throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.nativeOrder());
+        indexChannel.read(header, 0);
+
+        int storedCapacity = header.getInt(CAPACITY_OFFSET);
+        if (header.getInt(MAGIC_OFFSET) != MAGIC || header.getInt(VERSION_OFFSET) != VERSION
+                || storedCapacity < MIN_CAPACITY || Integer.bitCount(storedCapacity) != 1
+                || indexChannel.size() < HEADER_SIZE + (long) storedCapacity * Long.BYTES) {
+            return false;
+        }
+
+        mapIndex(storedCapacity);
+        return true;
+    }
+
+    private void replay(long from, long to) throws IOException {
+        if (to > 0 && !endsWithNewline(to)) {
+            to += appendLine("");
+        }
+
+        logChannel.force(false);
+        try (FileChannel reader = FileChannel.open(logPath, StandardOpenOption.READ)) {
+            reader.position(from);
+            BufferedReader lines = new BufferedReader(new InputStreamReader(
+                Channels.newInputStream(reader), StandardCharsets.UTF_8));
+
+            int entries = 0;
+            String line;
+            while ((line = lines.readLine()) != null) {
+                String name = line.trim();
+                if (name.isEmpty()) {
+                    continue;
+                }
+
+                entries++;
+                int code = codec.encode(name);
+                if (code >= 0) {
+                    if (!isPatternUsed(code)) {
+                        record(code, 0);
+                    }
+                } else {
+                    long fingerprint = fingerprint(name);
+                    if (!containsFingerprint(fingerprint)) {
+                        record(code, fingerprint);
+                    }
+                }
+            }
+
+            index.putInt(LOG_ENTRIES_OFFSET, index.getInt(LOG_ENTRIES_OFFSET) + entries);
+        }
+
+        index.putLong(LOG_LENGTH_OFFSET, to);
+    }
+
+    private boolean endsWithNewline(long size) throws IOException {
+        ByteBuffer last = ByteBuffer.allocate(1);
+        try (FileChannel reader = FileChannel.open(logPath, StandardOpenOption.READ)) {
+            reader.read(last, size - 1);
+        }
+        return last.get(0) == '\n';
+    }
+
+    private long appendLine(String line) throws IOException {
+        ByteBuffer bytes = ByteBuffer.wrap((line + "\n").getBytes(StandardCharsets.UTF_8));
+        long written = bytes.remaining();
+        while (bytes.hasRemaining()) {
+            logChannel.write(bytes);
+        }
+        return written;
+    }
+
+    private int distinctNames() {
+        return index.getInt(COUNT_OFFSET) + bits.getInt(PATTERN_COUNT_OFFSET);
+    }
+
+    private void record(int code, long fingerprint) throws IOException {
+        if (code >= 0) {
+            int offset = HEADER_SIZE + (code >>> 6) * Long.BYTES;
+            bits.putLong(offset, bits.getLong(offset) | (1L << code));
+            bits.putInt(PATTERN_COUNT_OFFSET, bits.getInt(PATTERN_COUNT_OFFSET) + 1);
+            int block = blockOffset + (code / BLOCK_BITS) * Integer.BYTES;
+            bits.putInt(block, bits.getInt(block) + 1);
+            return;
+        }
+
+        addToBloom(fingerprint);
+        insert(fingerprint);
+    }
+
+    private int selectFree(int rank) {
+        int block = 0;
+        while (true) {
+            int blockFree = Math.min(BLOCK_BITS, codec.size() - block * BLOCK_BITS)
+                - bits.getInt(blockOffset + block * Integer.BYTES);
+            if (rank < blockFree) {
+                break;
+            }
+            rank -= blockFree;
+            block++;
+        }
+
+        int word = block * (BLOCK_BITS / Long.SIZE);
+        while (true) {
+            long free = ~bits.getLong(HEADER_SIZE + word * Long.BYTES);
+            int wordFree = Long.bitCount(free);
+            if (rank < wordFree) {
+                for (int i = 0; i < rank; i++) {
+                    free &= free - 1;
+                }
+                return word * Long.SIZE + Long.numberOfTrailingZeros(free);
+            }
+            rank -= wordFree;
+            word++;
+        }
+    }
+
+    private boolean mightContain(long fingerprint) {
+        int h1 = (int) fingerprint;
+        int h2 = (int) (fingerprint >>> 32) | 1;
+        for (int i = 0; i < BLOOM_HASHES; i++) {
+            int bit = (h1 + i * h2) & (BLOOM_BITS - 1);
+            int offset = bloomOffset + (bit >>> 6) * Long.BYTES;
+            if ((bits.getLong(offset) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void addToBloom(long fingerprint) {
+        int h1 = (int) fingerprint;
+        int h2 = (int) (fingerprint >>> 32) | 1;
+        for (int i = 0; i < BLOOM_HASHES; i++) {
+            int bit = (h1 + i * h2) & (BLOOM_BITS - 1);
+            int offset = bloomOffset + (bit >>> 6) * Long.BYTES;
+            bits.putLong(offset, bits.getLong(offset) | (1L << bit));
+        }
+    }
+
+    private boolean containsFingerprint(long fingerprint) {
+        int slot = (int) fingerprint & mask;
+        while (true) {
+            long stored = index.getLong(slotOffset(slot));
+            if (stored == 0) {
+                return false;
+            }
+            if (stored == fingerprint) {
+                return true;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    private void insert(long fingerprint) throws IOException {
+        if ((index.getInt(COUNT_OFFSET) + 1) * 2L > capacity) {
+            grow();
+        }
+
+        if (insertInto(index, mask, fingerprint)) {
+            index.putInt(COUNT_OFFSET, index.getInt(COUNT_OFFSET) + 1);
+        }
+    }
+
+    private void grow() throws IOException {
+        int oldCapacity = capacity;
+        long[] slots = new long[oldCapacity];
+        for (int i = 0; i < oldCapacity; i++) {
+            slots[i] = index.getLong(slotOffset(i));
+        }
+
+        int count = index.getInt(COUNT_OFFSET);
+        int logEntries = index.getInt(LOG_ENTRIES_OFFSET);
+        int logGeneration = index.getInt(GENERATION_OFFSET);
+        long logLength = index.getLong(LOG_LENGTH_OFFSET);
+
+        int newCapacity = oldCapacity << 1;
+        if (indexChannel != null) {
+            mapIndex(newCapacity);
+        } else {
+            index = allocateIndex(newCapacity);
+            capacity = newCapacity;
+            mask = newCapacity - 1;
+        }
+
+        initializeHeader(newCapacity);
+        for (long slot : slots) {
+            if (slot != 0) {
+                insertInto(index, mask, slot);
+            }
+        }
+
+        index.putInt(COUNT_OFFSET, count);
+        index.putInt(LOG_ENTRIES_OFFSET, logEntries);
+        index.putInt(GENERATION_OFFSET, logGeneration);
+        index.putLong(LOG_LENGTH_OFFSET, logLength);
+        log.debug("Grew used name index to {} slots", newCapacity);
+    }
+
+    private void mapIndex(int newCapacity) throws IOException {
+        index = indexChannel.map(FileChannel.MapMode.READ_WRITE, 0,
+            HEADER_SIZE + (long) newCapacity * Long.BYTES).order(ByteOrder.nativeOrder());
+        capacity = newCapacity;
+        mask = newCapacity - 1;
+    }
+
+    private void initializeHeader(int newCapacity) {
+        for (int offset = 0; offset < HEADER_SIZE + newCapacity * Long.BYTES; offset += Long.BYTES) {
+            index.putLong(offset, 0L);
+        }
+        index.putInt(MAGIC_OFFSET, MAGIC);
+        index.putInt(VERSION_OFFSET, VERSION);
+        index.putInt(CAPACITY_OFFSET, newCapacity);
+        capacity = newCapacity;
+        mask = newCapacity - 1;
+    }
+
+    private void initializeBits() {
+        for (int offset = 0; offset < bitsSize; offset += Long.BYTES) {
+            bits.putLong(offset, 0L);
+        }
+        bits.putInt(MAGIC_OFFSET, BITS_MAGIC);
+        bits.putInt(VERSION_OFFSET, BITS_VERSION);
+        bits.putLong(SIGNATURE_OFFSET, codec.getSignature());
+
+        int padding = codec.size() & (Long.SIZE - 1);
+        if (padding != 0) {
+            bits.putLong(blockOffset - Long.BYTES, -1L << padding);
+        }
+    }
+
+    private static ByteBuffer allocateIndex(int capacity) {
+        return ByteBuffer.allocate(HEADER_SIZE + capacity * Long.BYTES).order(ByteOrder.nativeOrder());
+    }
+
+    private static boolean insertInto(ByteBuffer buffer, int mask, long fingerprint) {
+        int slot = (int) fingerprint & mask;
+        while (true) {
+            int offset = slotOffset(slot);
+            long stored = buffer.getLong(offset);
+            if (stored == 0) {
+                buffer.putLong(offset, fingerprint);
+                return true;
+            }
+            if (stored == fingerprint) {
+                return false;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    private static int slotOffset(int slot) {
+        return HEADER_SIZE + slot * Long.BYTES;
+    }
+
+    static long fingerprint(CharSequence name) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < name.length(); i++) {
+            hash ^= Character.toLowerCase(name.charAt(i));
+            hash *= 0x100000001b3L;
+        }
+
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash == 0 ? 1 : hash;
+    }
+
+    private interface LockedOperation<T> {
+        T run() throws IOException;
+    }
+}
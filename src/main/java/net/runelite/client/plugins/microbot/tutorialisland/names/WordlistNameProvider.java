@@ -0,0 +1,114 @@
+package net.runelite.client.plugins.microbot.tutorialisland.names;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@Slf4j
+public class WordlistNameProvider implements NameProvider {
+
+    private static final String WORDLIST_EXTENSION = ".txt";
+    private static final char WEIGHT_SEPARATOR = '@';
+    private static final int MAX_NAME_LENGTH = 12;
+    private static final int MAX_NUMBER = 999;
+
+    private final String id;
+    private final double weight;
+    private final List<MappedWordlist> parts;
+
+    public WordlistNameProvider(String id, double weight, List<MappedWordlist> parts) {
+        this.id = id;
+        this.weight = weight;
+        this.parts = Collections.unmodifiableList(new ArrayList<>(parts));
+    }
+
+    public static List<NameProvider> discover(Path directory) {
+        if (!Files.isDirectory(directory)) {
+            return Collections.emptyList();
+        }
+
+        List<NameProvider> providers = new ArrayList<>();
+        try (Stream<Path> entries = Files.list(directory)) {
+            for (Path entry : entries.sorted().collect(Collectors.toList())) {
+                String fileName = entry.getFileName().toString();
+
+                if (Files.isDirectory(entry)) {
+                    List<MappedWordlist> parts = listParts(entry);
+                    if (!parts.isEmpty()) {
+                        providers.add(create(fileName, parts));
+                    }
+                } else if (fileName.endsWith(WORDLIST_EXTENSION)) {
+                    String stem = fileName.substring(0, fileName.length() - WORDLIST_EXTENSION.length());
+                    providers.add(create(stem, Collections.singletonList(new MappedWordlist(entry))));
+                }
+            }
+        } catch (IOException e) {
+            log.error("Error listing name wordlists in {}", directory, e);
+        }
+        return providers;
+    }
+
+    @Override
+    public String getId() {
+        return id;
+    }
+
+    @Override
+    public double getWeight() {
+        return weight;
+    }
+
+    @Override
+    public String generate(Random random) {
+        StringBuilder name = new StringBuilder(MAX_NAME_LENGTH);
+        for (MappedWordlist part : parts) {
+            String word = part.random(random);
+            if (word == null) {
+                return null;
+            }
+            name.append(Character.toUpperCase(word.charAt(0))).append(word, 1, word.length());
+        }
+
+        int room = MAX_NAME_LENGTH - name.length();
+        if (room > 0) {
+            int maxNumber = room >= 3 ? MAX_NUMBER : room == 2 ? 99 : 9;
+            name.append(random.nextInt(maxNumber) + 1);
+        }
+        return name.toString();
+    }
+
+    private static WordlistNameProvider create(String stem, List<MappedWordlist> parts) {
+        int separator = stem.lastIndexOf(WEIGHT_SEPARATOR);
+        double weight = 1.0;
+        String id = stem;
+
+        if (separator > 0) {
+            try {
+                weight = Double.parseDouble(stem.substring(separator + 1));
+                id = stem.substring(0, separator);
+            } catch (NumberFormatException e) {
+                log.warn("Ignoring invalid weight in wordlist name {}", stem);
+            }
+        }
+
+        log.info("Found name wordlist provider {} with {} part(s), weight {}", id, parts.size(), weight);
+        return new WordlistNameProvider(id, weight, parts);
+    }
+
+    private static List<MappedWordlist> listParts(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.getFileName().toString().endsWith(WORDLIST_EXTENSION))
+                .sorted()
+                .map(MappedWordlist::new)
+                .collect(Collectors.toList());
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package net.runelite.client.plugins.microbot.tutorialisland.stages;
+
+import net.runelite.api.coords.WorldPoint;
+import net.runelite.client.plugins.microbot.tutorialisland.actions.GameActions;
+import net.runelite.client.plugins.microbot.tutorialisland.enums.GameTab;
+import net.runelite.client.plugins.microbot.tutorialisland.models.GameStateSnapshot;
+
+import java.util.function.Predicate;
+
+public final class ActionSteps {
+
+    private static final String TALK_TO = "Talk-to";
+
+    private static final int TALK_TIMEOUT_MS = 8000;
+    private static final int INTERACT_TIMEOUT_MS = 10000;
+    private static final int TAB_TIMEOUT_MS = 2400;
+    private static final int EQUIP_TIMEOUT_MS = 2400;
+    private static final int PRODUCE_TIMEOUT_MS = 9000;
+    private static final int CLIMB_TIMEOUT_MS = 8000;
+    private static final int TELEPORT_DISTANCE = 15;
+
+    private ActionSteps() {
+    }
+
+    public static StageStep talkTo(String step, GameActions actions, String npc) {
+        if (actions.interactNpc(npc, TALK_TO)) {
+            return StageStep.expect(step, GameStateSnapshot::isInDialogue, TALK_TIMEOUT_MS);
+        }
+        return StageStep.failed(step, "Failed to talk to " + npc);
+    }
+
+    public static StageStep interactNpc(String step, GameActions actions, String npc, String option) {
+        if (actions.interactNpc(npc, option)) {
+            return StageStep.awaitProgress(step, INTERACT_TIMEOUT_MS);
+        }
+        return StageStep.failed(step, "Failed to " + option + " " + npc);
+    }
+
+    public static StageStep interactObject(String step, GameActions actions, int objectId, String option) {
+        if (actions.interactObject(objectId, option)) {
+            return StageStep.awaitProgress(step, INTERACT_TIMEOUT_MS);
+        }
+        return StageStep.failed(step, "Failed to " + option + " object " + objectId);
+    }
+
+    public static StageStep interactObject(String step, GameActions actions, String object, String option) {
+        if (actions.interactObject(object, option)) {
+            return StageStep.awaitProgress(step, INTERACT_TIMEOUT_MS);
+        }
+        return StageStep.failed(step, "Failed to " + option + " " + object);
+    }
+
+    public static StageStep openTab(String step, GameActions actions, GameTab tab) {
+        if (actions.openTab(tab)) {
+            return StageStep.awaitProgress(step, TAB_TIMEOUT_MS);
+        }
+        return StageStep.failed(step, "Failed to open " + tab + " tab");
+    }
+
+    public static StageStep equip(String step, GameActions actions, GameStateSnapshot state, int itemId) {
+        if (state.isWearing(itemId)) {
+            return StageStep.next(step);
+        }
+        if (actions.wield(itemId)) {
+            return StageStep.expect(step, s -> s.isWearing(itemId), EQUIP_TIMEOUT_MS);
+        }
+        return StageStep.failed(step, "Failed to equip item " + itemId);
+    }
+
+    public static StageStep equipAll(String step, GameActions actions, GameStateSnapshot state, int... itemIds) {
+        Predicate<GameStateSnapshot> worn = s -> true;
+        boolean issued = false;
+        for (int itemId : itemIds) {
+            if (state.isWearing(itemId)) {
+                continue;
+            }
+            if (!actions.wield(itemId)) {
+                return StageStep.failed(step, "Failed to equip item " + itemId);
+            }
+            worn = worn.and(s -> s.isWearing(itemId));
+            issued = true;
+        }
+        return issued ? StageStep.expect(step, worn, EQUIP_TIMEOUT_MS) : StageStep.next(step);
+    }
+
+    public static StageStep combine(String step, GameActions actions, GameStateSnapshot state,
+                                    int firstItemId, int secondItemId) {
+        if (state.isAnimating()) {
+            return StageStep.waitUntil(step, activityFinished(state), PRODUCE_TIMEOUT_MS);
+        }
+        if (actions.combineItems(firstItemId, secondItemId)) {
+            return StageStep.expect(step, activityFinished(state), PRODUCE_TIMEOUT_MS);
+        }
+        return StageStep.failed(step, "Failed to combine " + firstItemId + " with " + secondItemId);
+    }
+
+    public static StageStep useItemOn(String step, GameActions actions, GameStateSnapshot state,
+                                      int itemId, String object) {
+        if (state.isAnimating()) {
+            return StageStep.waitUntil(step, activityFinished(state), PRODUCE_TIMEOUT_MS);
+        }
+        if (actions.useItemOnObject(itemId, object)) {
+            return StageStep.expect(step, activityFinished(state), PRODUCE_TIMEOUT_MS);
+        }
+        return StageStep.failed(step, "Failed to use item " + itemId + " on " + object);
+    }
+
+    public static StageStep climb(String step, GameActions actions, GameStateSnapshot state,
+                                  int objectId, String option) {
+        if (actions.interactObject(objectId, option)) {
+            WorldPoint from = state.getLocation();
+            return StageStep.expect(step, s -> hasTeleported(from, s.getLocation()), CLIMB_TIMEOUT_MS);
+        }
+        return StageStep.failed(step, "Failed to " + option + " object " + objectId);
+    }
+
+    public static Predicate<GameStateSnapshot> activityFinished(GameStateSnapshot before) {
+        return new ActivityFinished(before);
+    }
+
+    private static boolean hasTeleported(WorldPoint from, WorldPoint to) {
+        if (from == null || to == null) {
+            return false;
+        }
+        return from.getPlane() != to.getPlane() || from.distanceTo2D(to) > TELEPORT_DISTANCE;
+    }
+
+    private static final class ActivityFinished implements Predicate<GameStateSnapshot> {
+
+        private final GameStateSnapshot before;
+        private boolean active;
+
+        private ActivityFinished(GameStateSnapshot before) {
+            this.before = before;
+            this.active = before.isAnimating();
+        }
+
+        @Override
+        public boolean test(GameStateSnapshot state) {
+            if (state.getExperience() > before.getExperience() || !state.hasSameInventory(before)) {
+                return true;
+            }
+            if (state.isAnimating()) {
+                active = true;
+                return false;
+            }
+            return active;
+        }
+    }
+}
@@ -1,145 +1,75 @@
 package net.runelite.client.plugins.microbot.tutorialisland.stages;
 
 import lombok.extern.slf4j.Slf4j;
-import net.runelite.api.ItemID;
 import net.runelite.client.plugins.microbot.tutorialisland.TutorialIslandConfig;
-import net.runelite.client.plugins.microbot.tutorialisland.managers.ErrorRecoveryManager;
-import net.runelite.client.plugins.microbot.util.dialogues.Rs2Dialogue;
-import net.runelite.client.plugins.microbot.util.gameobject.Rs2GameObject;
-import net.runelite.client.plugins.microbot.util.inventory.Rs2Inventory;
-import net.runelite.client.plugins.microbot.util.npc.Rs2Npc;
-import net.runelite.client.plugins.microbot.util.tabs.Rs2Tab;
+import net.runelite.client.plugins.microbot.tutorialisland.actions.GameActions;
+import net.runelite.client.plugins.microbot.tutorialisland.enums.GameTab;
+import net.runelite.client.plugins.microbot.tutorialisland.enums.TutorialSubStep;
+import net.runelite.client.plugins.microbot.tutorialisland.managers.DialogueManager;
+import net.runelite.client.plugins.microbot.tutorialisland.models.GameStateSnapshot;
+import net.runelite.client.plugins.microbot.tutorialisland.models.TutorialSession;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
-import static net.runelite.client.plugins.microbot.util.Global.sleep;
-import static net.runelite.client.plugins.microbot.util.Global.sleepUntil;
-
 @Slf4j
 @Singleton
 public class BrotherBraceStage implements IStageHandler {
 
     @Inject
-    private ErrorRecoveryManager errorRecovery;
+    private DialogueManager dialogueManager;
 
     private static final String NPC_BROTHER_BRACE = "Brother Brace";
     private static final int DOOR_ID = 9722;
 
     @Override
-    public boolean execute(TutorialIslandConfig config) {
-        try {
-            if (Rs2Dialogue.isInDialogue()) {
-                handleDialogue(config);
-                return true;
-            }
-
-            if (shouldTalkToBrother()) {
-                return talkToBrotherBrace(config);
-            }
+    public StageStep execute(TutorialSession session, TutorialIslandConfig config,
+                             TutorialSubStep subStep, GameStateSnapshot state) {
+        GameActions actions = session.getActions();
 
-            if (needsToOpenPrayer()) {
-                return openPrayerTab(config);
+        try {
+            if (state.isInDialogue()) {
+                return dialogueManager.advance(actions, state);
             }
 
-            if (needsToBuryBones()) {
-                return buryBones(config);
+            switch (subStep) {
+                case TALK_TO_BROTHER_BRACE:
+                case TALK_TO_BROTHER_BRACE_AGAIN:
+                case TALK_TO_BROTHER_BRACE_FINAL:
+                    return talkToBrotherBrace(actions);
+                case OPEN_PRAYER_TAB:
+                    return openPrayerTab(actions);
+                case OPEN_FRIENDS_TAB:
+                    return openFriendsTab(actions);
+                case EXIT_CHAPEL:
+                    return exitArea(actions);
+                default:
+                    return StageStep.next("brotherBraceStage");
             }
 
-            return exitArea(config);
-
         } catch (Exception e) {
             log.error("Error in Brother Brace stage", e);
-            return false;
+            return StageStep.failed("brotherBraceStage", e.getMessage());
         }
     }
 
-    private boolean talkToBrotherBrace(TutorialIslandConfig config) {
+    private StageStep talkToBrotherBrace(GameActions actions) {
         log.debug("Talking to Brother Brace");
-
-        if (Rs2Npc.interact(NPC_BROTHER_BRACE, "Talk-to")) {
-            sleep(config.actionDelay());
-            
-            boolean dialogueOpened = sleepUntil(Rs2Dialogue::isInDialogue, 3000);
-            
-            if (dialogueOpened) {
-                errorRecovery.resetError("talkToBrotherBrace");
-                return true;
-            }
-        }
-
-        return errorRecovery.handleError("talkToBrotherBrace", 
-            "Failed to talk to Brother Brace");
+        return ActionSteps.talkTo("talkToBrotherBrace", actions, NPC_BROTHER_BRACE);
     }
 
-    private boolean openPrayerTab(TutorialIslandConfig config) {
+    private StageStep openPrayerTab(GameActions actions) {
         log.debug("Opening Prayer tab");
-
-        if (Rs2Tab.switchToPrayerTab()) {
-            sleep(config.actionDelay());
-            errorRecovery.resetError("openPrayerTab");
-            return true;
-        }
-
-        return errorRecovery.handleError("openPrayerTab", 
-            "Failed to open Prayer tab");
+        return ActionSteps.openTab("openPrayerTab", actions, GameTab.PRAYER);
     }
 
-    private boolean buryBones(TutorialIslandConfig config) {
-        log.debug("Burying bones");
-
-        if (Rs2Inventory.interact(ItemID.BONES, "Bury")) {
-            sleep(config.actionDelay());
-            
-            boolean buried = sleepUntil(() -> 
-                !Rs2Inventory.hasItem(ItemID.BONES), 3000);
-            
-            if (buried) {
-                log.debug("Bones buried successfully");
-                errorRecovery.resetError("buryBones");
-                return true;
-            }
-        }
-
-        return errorRecovery.handleError("buryBones", "Failed to bury bones");
+    private StageStep openFriendsTab(GameActions actions) {
+        log.debug("Opening Friends tab");
+        return ActionSteps.openTab("openFriendsTab", actions, GameTab.FRIENDS);
     }
 
-    private boolean exitArea(TutorialIslandConfig config) {
+    private StageStep exitArea(GameActions actions) {
         log.debug("Exiting Brother Brace area");
-
-        if (Rs2GameObject.interact(DOOR_ID, "Open")) {
-            sleep(config.actionDelay());
-            sleep(1000);
-            errorRecovery.resetError("exitArea");
-            return true;
-        }
-
-        return errorRecovery.handleError("exitArea", "Failed to open door");
-    }
-
-    private void handleDialogue(TutorialIslandConfig config) {
-        if (Rs2Dialogue.hasContinue()) {
-            Rs2Dialogue.clickContinue();
-            sleep(config.randomizeDelay() ? 
-                config.actionDelay() + (int)(Math.random() * 200) : 
-                config.actionDelay());
-        }
-
-        if (Rs2Dialogue.hasSelectAnOption()) {
-            Rs2Dialogue.keyPressForDialogueOption(1);
-            sleep(config.actionDelay());
-        }
-    }
-
-    private boolean shouldTalkToBrother() {
-        return true;
-    }
-
-    private boolean needsToOpenPrayer() {
-        return true;
-    }
-
-    private boolean needsToBuryBones() {
-        return Rs2Inventory.hasItem(ItemID.BONES);
+        return ActionSteps.interactObject("exitArea", actions, DOOR_ID, "Open");
     }
 }
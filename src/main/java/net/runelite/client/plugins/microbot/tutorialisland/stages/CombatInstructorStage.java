@@ -4,237 +4,139 @@ import lombok.extern.slf4j.Slf4j;
 import net.runelite.api.ItemID;
 import net.runelite.api.NpcID;
 import net.runelite.client.plugins.microbot.tutorialisland.TutorialIslandConfig;
-import net.runelite.client.plugins.microbot.tutorialisland.managers.ErrorRecoveryManager;
-import net.runelite.client.plugins.microbot.util.dialogues.Rs2Dialogue;
-import net.runelite.client.plugins.microbot.util.equipment.Rs2Equipment;
-import net.runelite.client.plugins.microbot.util.gameobject.Rs2GameObject;
-import net.runelite.client.plugins.microbot.util.inventory.Rs2Inventory;
-import net.runelite.client.plugins.microbot.util.npc.Rs2Npc;
-import net.runelite.client.plugins.microbot.util.player.Rs2Player;
-import net.runelite.client.plugins.microbot.util.tabs.Rs2Tab;
+import net.runelite.client.plugins.microbot.tutorialisland.actions.GameActions;
+import net.runelite.client.plugins.microbot.tutorialisland.enums.GameTab;
+import net.runelite.client.plugins.microbot.tutorialisland.enums.TutorialSubStep;
+import net.runelite.client.plugins.microbot.tutorialisland.managers.CombatManager;
+import net.runelite.client.plugins.microbot.tutorialisland.managers.DialogueManager;
+import net.runelite.client.plugins.microbot.tutorialisland.models.GameStateSnapshot;
+import net.runelite.client.plugins.microbot.tutorialisland.models.TutorialSession;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
-import static net.runelite.client.plugins.microbot.util.Global.sleep;
-import static net.runelite.client.plugins.microbot.util.Global.sleepUntil;
-
 @Slf4j
 @Singleton
 public class CombatInstructorStage implements IStageHandler {
 
     @Inject
-    private ErrorRecoveryManager errorRecovery;
+    private DialogueManager dialogueManager;
+
+    @Inject
+    private CombatManager combatManager;
 
     private static final String NPC_COMBAT_INSTRUCTOR = "Combat Instructor";
     private static final int GIANT_RAT_ID = NpcID.GIANT_RAT_2;
     private static final int LADDER_ID = 9726;
+    private static final String RAT_PEN_GATE = "Gate";
+    private static final String EQUIPMENT_STATS_TEXT = "View equipment stats";
+    private static final int EQUIPMENT_STATS_TIMEOUT_MS = 2400;
 
     @Override
-    public boolean execute(TutorialIslandConfig config) {
-        try {
-            if (Rs2Dialogue.isInDialogue()) {
-                handleDialogue(config);
-                return true;
-            }
-
-            if (shouldTalkToInstructor()) {
-                return talkToCombatInstructor(config);
-            }
+    public StageStep execute(TutorialSession session, TutorialIslandConfig config,
+                             TutorialSubStep subStep, GameStateSnapshot state) {
+        GameActions actions = session.getActions();
 
-            if (needsToOpenEquipment()) {
-                return openEquipmentTab(config);
-            }
-
-            if (needsToEquipDagger()) {
-                return equipDagger(config);
-            }
-
-            if (needsToEquipShield()) {
-                return equipShield(config);
-            }
-
-            if (needsToOpenCombat()) {
-                return openCombatTab(config);
+        try {
+            if (state.isInDialogue()) {
+                return dialogueManager.advance(actions, state);
             }
 
-            if (needsToKillRat()) {
-                return killGiantRat(config);
+            switch (subStep) {
+                case TALK_TO_COMBAT_INSTRUCTOR:
+                case TALK_TO_COMBAT_INSTRUCTOR_AGAIN:
+                case TALK_TO_COMBAT_INSTRUCTOR_AFTER_MELEE:
+                    return talkToCombatInstructor(actions);
+                case OPEN_EQUIPMENT_TAB:
+                    return openEquipmentTab(actions);
+                case OPEN_EQUIPMENT_STATS:
+                    return openEquipmentStats(actions);
+                case EQUIP_DAGGER:
+                    return equipDagger(actions, state);
+                case EQUIP_SWORD_AND_SHIELD:
+                    return equipSwordAndShield(actions, state);
+                case OPEN_COMBAT_TAB:
+                    return openCombatTab(actions);
+                case ENTER_RAT_PEN:
+                    return enterRatPen(actions);
+                case ATTACK_RAT:
+                case KILL_RAT:
+                    return killGiantRat(session, state);
+                case SHOOT_RAT:
+                case KILL_RAT_RANGED:
+                    return shootGiantRat(session, state);
+                case CLIMB_UP_FROM_MINE:
+                    return exitArea(actions, state);
+                default:
+                    return StageStep.next("combatInstructorStage");
             }
 
-            return exitArea(config);
-
         } catch (Exception e) {
             log.error("Error in Combat Instructor stage", e);
-            return false;
+            return StageStep.failed("combatInstructorStage", e.getMessage());
         }
     }
 
-    private boolean talkToCombatInstructor(TutorialIslandConfig config) {
+    private StageStep talkToCombatInstructor(GameActions actions) {
         log.debug("Talking to Combat Instructor");
-
-        if (Rs2Npc.interact(NPC_COMBAT_INSTRUCTOR, "Talk-to")) {
-            sleep(config.actionDelay());
-            
-            boolean dialogueOpened = sleepUntil(Rs2Dialogue::isInDialogue, 3000);
-            
-            if (dialogueOpened) {
-                errorRecovery.resetError("talkToCombatInstructor");
-                return true;
-            }
-        }
-
-        return errorRecovery.handleError("talkToCombatInstructor", 
-            "Failed to talk to Combat Instructor");
+        return ActionSteps.talkTo("talkToCombatInstructor", actions, NPC_COMBAT_INSTRUCTOR);
     }
 
-    private boolean openEquipmentTab(TutorialIslandConfig config) {
+    private StageStep openEquipmentTab(GameActions actions) {
         log.debug("Opening Equipment tab");
-
-        if (Rs2Tab.switchToEquipmentTab()) {
-            sleep(config.actionDelay());
-            errorRecovery.resetError("openEquipmentTab");
-            return true;
-        }
-
-        return errorRecovery.handleError("openEquipmentTab", 
-            "Failed to open Equipment tab");
+        return ActionSteps.openTab("openEquipmentTab", actions, GameTab.EQUIPMENT);
     }
 
-    private boolean equipDagger(TutorialIslandConfig config) {
-        log.debug("Equipping bronze dagger");
+    private StageStep openEquipmentStats(GameActions actions) {
+        log.debug("Opening equipment stats");
 
-        if (Rs2Inventory.wield(ItemID.BRONZE_DAGGER)) {
-            sleep(config.actionDelay());
-            
-            boolean equipped = sleepUntil(() -> 
-                Rs2Equipment.isWearing(ItemID.BRONZE_DAGGER), 3000);
-            
-            if (equipped) {
-                log.debug("Bronze dagger equipped");
-                errorRecovery.resetError("equipDagger");
-                return true;
-            }
+        if (actions.clickWidget(EQUIPMENT_STATS_TEXT)) {
+            return StageStep.awaitProgress("openEquipmentStats", EQUIPMENT_STATS_TIMEOUT_MS);
         }
 
-        return errorRecovery.handleError("equipDagger", 
-            "Failed to equip bronze dagger");
+        return StageStep.failed("openEquipmentStats", "Failed to open equipment stats");
     }
 
-    private boolean equipShield(TutorialIslandConfig config) {
-        log.debug("Equipping wooden shield");
-
-        if (Rs2Inventory.wield(ItemID.WOODEN_SHIELD)) {
-            sleep(config.actionDelay());
-            
-            boolean equipped = sleepUntil(() -> 
-                Rs2Equipment.isWearing(ItemID.WOODEN_SHIELD), 3000);
-            
-            if (equipped) {
-                log.debug("Wooden shield equipped");
-                errorRecovery.resetError("equipShield");
-                return true;
-            }
-        }
+    private StageStep equipDagger(GameActions actions, GameStateSnapshot state) {
+        log.debug("Equipping bronze dagger");
+        return ActionSteps.equip("equipDagger", actions, state, ItemID.BRONZE_DAGGER);
+    }
 
-        return errorRecovery.handleError("equipShield", 
-            "Failed to equip wooden shield");
+    private StageStep equipSwordAndShield(GameActions actions, GameStateSnapshot state) {
+        log.debug("Equipping bronze sword and wooden shield");
+        return ActionSteps.equipAll("equipSwordAndShield", actions, state,
+            ItemID.BRONZE_SWORD, ItemID.WOODEN_SHIELD);
     }
 
-    private boolean openCombatTab(TutorialIslandConfig config) {
+    private StageStep openCombatTab(GameActions actions) {
         log.debug("Opening Combat tab");
-
-        if (Rs2Tab.switchToCombatOptionsTab()) {
-            sleep(config.actionDelay());
-            errorRecovery.resetError("openCombatTab");
-            return true;
-        }
-
-        return errorRecovery.handleError("openCombatTab", 
-            "Failed to open Combat tab");
+        return ActionSteps.openTab("openCombatTab", actions, GameTab.COMBAT);
     }
 
-    private boolean killGiantRat(TutorialIslandConfig config) {
-        log.debug("Attacking giant rat");
-
-        if (Rs2Player.isInCombat()) {
-            log.debug("Already in combat, waiting...");
-            
-            sleepUntil(() -> !Rs2Player.isInCombat(), 30000);
-            errorRecovery.resetError("killGiantRat");
-            return true;
-        }
-
-        if (Rs2Npc.interact(GIANT_RAT_ID, "Attack")) {
-            sleep(config.actionDelay());
-            
-            boolean inCombat = sleepUntil(Rs2Player::isInCombat, 5000);
-            
-            if (inCombat) {
-                log.debug("Engaged in combat with rat");
-                sleepUntil(() -> !Rs2Player.isInCombat(), 30000);
-                errorRecovery.resetError("killGiantRat");
-                return true;
-            }
-        }
-
-        return errorRecovery.handleError("killGiantRat", 
-            "Failed to attack giant rat");
+    private StageStep enterRatPen(GameActions actions) {
+        log.debug("Entering rat pen");
+        return ActionSteps.interactObject("enterRatPen", actions, RAT_PEN_GATE, "Open");
     }
 
-    private boolean exitArea(TutorialIslandConfig config) {
-        log.debug("Exiting Combat Instructor area");
-
-        if (Rs2GameObject.interact(LADDER_ID, "Climb-down")) {
-            sleep(config.actionDelay());
-            sleep(1500);
-            errorRecovery.resetError("exitArea");
-            return true;
-        }
-
-        return errorRecovery.handleError("exitArea", "Failed to climb ladder");
+    private StageStep killGiantRat(TutorialSession session, GameStateSnapshot state) {
+        log.debug("Attacking giant rat");
+        return combatManager.fight(session, state, "killGiantRat", GIANT_RAT_ID);
     }
 
-    private void handleDialogue(TutorialIslandConfig config) {
-        if (Rs2Dialogue.hasContinue()) {
-            Rs2Dialogue.clickContinue();
-            sleep(config.randomizeDelay() ? 
-                config.actionDelay() + (int)(Math.random() * 200) : 
-                config.actionDelay());
-        }
+    private StageStep shootGiantRat(TutorialSession session, GameStateSnapshot state) {
+        GameActions actions = session.getActions();
 
-        if (Rs2Dialogue.hasSelectAnOption()) {
-            Rs2Dialogue.keyPressForDialogueOption(1);
-            sleep(config.actionDelay());
+        if (state.hasItem(ItemID.SHORTBOW) || state.hasItem(ItemID.BRONZE_ARROW)) {
+            log.debug("Equipping shortbow and bronze arrows");
+            return ActionSteps.equipAll("equipRangedGear", actions, state, ItemID.SHORTBOW, ItemID.BRONZE_ARROW);
         }
-    }
 
-    private boolean shouldTalkToInstructor() {
-        return !Rs2Inventory.hasItem(ItemID.WOODEN_SHIELD) &&
-               !Rs2Equipment.isWearing(ItemID.WOODEN_SHIELD);
+        log.debug("Shooting giant rat");
+        return combatManager.fight(session, state, "shootGiantRat", GIANT_RAT_ID);
     }
 
-    private boolean needsToOpenEquipment() {
-        return Rs2Inventory.hasItem(ItemID.BRONZE_DAGGER) && 
-               !Rs2Equipment.isWearing(ItemID.BRONZE_DAGGER);
-    }
-
-    private boolean needsToEquipDagger() {
-        return Rs2Inventory.hasItem(ItemID.BRONZE_DAGGER) && 
-               !Rs2Equipment.isWearing(ItemID.BRONZE_DAGGER);
-    }
-
-    private boolean needsToEquipShield() {
-        return Rs2Inventory.hasItem(ItemID.WOODEN_SHIELD) && 
-               !Rs2Equipment.isWearing(ItemID.WOODEN_SHIELD);
-    }
-
-    private boolean needsToOpenCombat() {
-        return Rs2Equipment.isWearing(ItemID.BRONZE_DAGGER) && 
-               Rs2Equipment.isWearing(ItemID.WOODEN_SHIELD);
-    }
-
-    private boolean needsToKillRat() {
-        return true;
+    private StageStep exitArea(GameActions actions, GameStateSnapshot state) {
+        log.debug("Exiting Combat Instructor area");
+        return ActionSteps.climb("exitArea", actions, state, LADDER_ID, "Climb-up");
     }
 }
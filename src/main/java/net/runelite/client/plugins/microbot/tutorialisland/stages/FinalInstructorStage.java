@@ -2,116 +2,71 @@ package net.runelite.client.plugins.microbot.tutorialisland.stages;
 
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.client.plugins.microbot.tutorialisland.TutorialIslandConfig;
-import net.runelite.client.plugins.microbot.tutorialisland.managers.ErrorRecoveryManager;
+import net.runelite.client.plugins.microbot.tutorialisland.actions.GameActions;
+import net.runelite.client.plugins.microbot.tutorialisland.enums.AccountType;
+import net.runelite.client.plugins.microbot.tutorialisland.enums.TutorialSubStep;
+import net.runelite.client.plugins.microbot.tutorialisland.managers.DialogueManager;
 import net.runelite.client.plugins.microbot.tutorialisland.managers.IronmanAccountManager;
-import net.runelite.client.plugins.microbot.util.dialogues.Rs2Dialogue;
-import net.runelite.client.plugins.microbot.util.gameobject.Rs2GameObject;
-import net.runelite.client.plugins.microbot.util.npc.Rs2Npc;
+import net.runelite.client.plugins.microbot.tutorialisland.models.GameStateSnapshot;
+import net.runelite.client.plugins.microbot.tutorialisland.models.TutorialSession;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
-import static net.runelite.client.plugins.microbot.util.Global.sleep;
-import static net.runelite.client.plugins.microbot.util.Global.sleepUntil;
-
 @Slf4j
 @Singleton
 public class FinalInstructorStage implements IStageHandler {
 
     @Inject
-    private ErrorRecoveryManager errorRecovery;
+    private DialogueManager dialogueManager;
 
     @Inject
     private IronmanAccountManager ironmanAccountManager;
 
     private static final String NPC_FINAL_INSTRUCTOR = "Skippy";
-    private static final int DOOR_ID = 9398;
+    private static final int CONFIRM_TIMEOUT_MS = 3000;
 
     @Override
-    public boolean execute(TutorialIslandConfig config) {
+    public StageStep execute(TutorialSession session, TutorialIslandConfig config,
+                             TutorialSubStep subStep, GameStateSnapshot state) {
+        GameActions actions = session.getActions();
+
         try {
-            if (Rs2Dialogue.isInDialogue()) {
-                handleDialogue(config);
-                return true;
+            if (state.isInDialogue()) {
+                return dialogueManager.advance(actions, state);
             }
 
-            if (ironmanAccountManager.isAccountSelectionOpen()) {
-                return handleAccountSelection(config);
+            if (state.isWidgetOpen(GameStateSnapshot.ACCOUNT_TYPE_GROUP_ID)) {
+                return handleAccountSelection(session, config);
             }
 
-            if (shouldTalkToInstructor()) {
-                return talkToFinalInstructor(config);
+            switch (subStep) {
+                case FINISH_TUTORIAL:
+                    return talkToFinalInstructor(actions);
+                default:
+                    return StageStep.next("finalInstructorStage");
             }
 
-            return exitArea(config);
-
         } catch (Exception e) {
             log.error("Error in Final Instructor stage", e);
-            return false;
+            return StageStep.failed("finalInstructorStage", e.getMessage());
         }
     }
 
-    private boolean talkToFinalInstructor(TutorialIslandConfig config) {
+    private StageStep talkToFinalInstructor(GameActions actions) {
         log.debug("Talking to Final Instructor");
-
-        if (Rs2Npc.interact(NPC_FINAL_INSTRUCTOR, "Talk-to")) {
-            sleep(config.actionDelay());
-            
-            boolean dialogueOpened = sleepUntil(Rs2Dialogue::isInDialogue, 3000);
-            
-            if (dialogueOpened) {
-                errorRecovery.resetError("talkToFinalInstructor");
-                return true;
-            }
-        }
-
-        return errorRecovery.handleError("talkToFinalInstructor", 
-            "Failed to talk to Final Instructor");
+        return ActionSteps.talkTo("talkToFinalInstructor", actions, NPC_FINAL_INSTRUCTOR);
     }
 
-    private boolean handleAccountSelection(TutorialIslandConfig config) {
+    private StageStep handleAccountSelection(TutorialSession session, TutorialIslandConfig config) {
         log.debug("Handling account selection interface");
 
-        boolean success = ironmanAccountManager.selectAccountType(config);
-
-        if (success) {
-            log.info("Account type selected successfully");
-            errorRecovery.resetError("handleAccountSelection");
-            return true;
-        }
-
-        return errorRecovery.handleError("handleAccountSelection", 
-            "Failed to select account type");
-    }
-
-    private boolean exitArea(TutorialIslandConfig config) {
-        log.debug("Exiting Tutorial Island");
-
-        if (Rs2GameObject.interact(DOOR_ID, "Open")) {
-            sleep(config.actionDelay());
-            sleep(1000);
-            errorRecovery.resetError("exitArea");
-            return true;
-        }
-
-        return errorRecovery.handleError("exitArea", "Failed to open door");
-    }
-
-    private void handleDialogue(TutorialIslandConfig config) {
-        if (Rs2Dialogue.hasContinue()) {
-            Rs2Dialogue.clickContinue();
-            sleep(config.randomizeDelay() ? 
-                config.actionDelay() + (int)(Math.random() * 200) : 
-                config.actionDelay());
+        if (!ironmanAccountManager.selectAccountType(session, config)) {
+            return StageStep.failed("handleAccountSelection", "Failed to select account type");
         }
 
-        if (Rs2Dialogue.hasSelectAnOption()) {
-            Rs2Dialogue.keyPressForDialogueOption(1);
-            sleep(config.actionDelay());
-        }
-    }
-
-    private boolean shouldTalkToInstructor() {
-        return true;
+        AccountType target = ironmanAccountManager.getTargetAccountType(config);
+        return StageStep.expect("confirmAccountType",
+            s -> ironmanAccountManager.isConfirmed(s, target), CONFIRM_TIMEOUT_MS);
     }
 }
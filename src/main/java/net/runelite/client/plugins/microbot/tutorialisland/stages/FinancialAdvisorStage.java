@@ -2,142 +2,102 @@ package net.runelite.client.plugins.microbot.tutorialisland.stages;
 
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.client.plugins.microbot.tutorialisland.TutorialIslandConfig;
-import net.runelite.client.plugins.microbot.tutorialisland.managers.ErrorRecoveryManager;
-import net.runelite.client.plugins.microbot.util.bank.Rs2Bank;
-import net.runelite.client.plugins.microbot.util.dialogues.Rs2Dialogue;
-import net.runelite.client.plugins.microbot.util.gameobject.Rs2GameObject;
-import net.runelite.client.plugins.microbot.util.npc.Rs2Npc;
+import net.runelite.client.plugins.microbot.tutorialisland.actions.GameActions;
+import net.runelite.client.plugins.microbot.tutorialisland.enums.GameTab;
+import net.runelite.client.plugins.microbot.tutorialisland.enums.TutorialSubStep;
+import net.runelite.client.plugins.microbot.tutorialisland.managers.DialogueManager;
+import net.runelite.client.plugins.microbot.tutorialisland.models.GameStateSnapshot;
+import net.runelite.client.plugins.microbot.tutorialisland.models.TutorialSession;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
-import static net.runelite.client.plugins.microbot.util.Global.sleep;
-import static net.runelite.client.plugins.microbot.util.Global.sleepUntil;
-
 @Slf4j
 @Singleton
 public class FinancialAdvisorStage implements IStageHandler {
 
     @Inject
-    private ErrorRecoveryManager errorRecovery;
+    private DialogueManager dialogueManager;
 
     private static final String NPC_FINANCIAL_ADVISOR = "Account Guide";
     private static final String NPC_BANKER = "Banker";
+    private static final String POLL_BOOTH = "Poll booth";
+    private static final int EXIT_DOOR_ID = 9722;
     private static final int DOOR_ID = 9721;
+    private static final int BANK_CLOSE_TIMEOUT_MS = 2400;
 
     @Override
-    public boolean execute(TutorialIslandConfig config) {
-        try {
-            if (Rs2Dialogue.isInDialogue()) {
-                handleDialogue(config);
-                return true;
-            }
+    public StageStep execute(TutorialSession session, TutorialIslandConfig config,
+                             TutorialSubStep subStep, GameStateSnapshot state) {
+        GameActions actions = session.getActions();
 
-            if (Rs2Bank.isOpen()) {
-                return handleBankInterface(config);
+        try {
+            if (state.isInDialogue()) {
+                return dialogueManager.advance(actions, state);
             }
 
-            if (shouldTalkToAdvisor()) {
-                return talkToFinancialAdvisor(config);
+            if (state.isBankOpen() && subStep != TutorialSubStep.OPEN_BANK) {
+                return handleBankInterface(actions);
             }
 
-            if (needsToOpenBank()) {
-                return openBank(config);
+            switch (subStep) {
+                case OPEN_BANK:
+                    return openBank(actions);
+                case OPEN_POLL_BOOTH:
+                    return openPollBooth(actions);
+                case ENTER_ACCOUNT_GUIDE_ROOM:
+                    return enterAccountGuideRoom(actions);
+                case TALK_TO_ACCOUNT_GUIDE:
+                case TALK_TO_ACCOUNT_GUIDE_AGAIN:
+                    return talkToFinancialAdvisor(actions);
+                case OPEN_ACCOUNT_TAB:
+                    return openAccountTab(actions);
+                case EXIT_BANK:
+                    return exitArea(actions);
+                default:
+                    return StageStep.next("financialAdvisorStage");
             }
 
-            return exitArea(config);
-
         } catch (Exception e) {
             log.error("Error in Financial Advisor stage", e);
-            return false;
+            return StageStep.failed("financialAdvisorStage", e.getMessage());
         }
     }
 
-    private boolean talkToFinancialAdvisor(TutorialIslandConfig config) {
+    private StageStep talkToFinancialAdvisor(GameActions actions) {
         log.debug("Talking to Financial Advisor");
-
-        if (Rs2Npc.interact(NPC_FINANCIAL_ADVISOR, "Talk-to")) {
-            sleep(config.actionDelay());
-            
-            boolean dialogueOpened = sleepUntil(Rs2Dialogue::isInDialogue, 3000);
-            
-            if (dialogueOpened) {
-                errorRecovery.resetError("talkToFinancialAdvisor");
-                return true;
-            }
-        }
-
-        return errorRecovery.handleError("talkToFinancialAdvisor", 
-            "Failed to talk to Financial Advisor");
+        return ActionSteps.talkTo("talkToFinancialAdvisor", actions, NPC_FINANCIAL_ADVISOR);
     }
 
-    private boolean openBank(TutorialIslandConfig config) {
+    private StageStep openBank(GameActions actions) {
         log.debug("Opening bank");
-
-        if (Rs2Npc.interact(NPC_BANKER, "Talk-to")) {
-            sleep(config.actionDelay());
-            
-            boolean bankOpened = sleepUntil(Rs2Bank::isOpen, 5000);
-            
-            if (bankOpened) {
-                log.debug("Bank opened successfully");
-                errorRecovery.resetError("openBank");
-                return true;
-            }
-        }
-
-        return errorRecovery.handleError("openBank", "Failed to open bank");
+        return ActionSteps.interactNpc("openBank", actions, NPC_BANKER, "Bank");
     }
 
-    private boolean handleBankInterface(TutorialIslandConfig config) {
-        log.debug("Bank is open, closing it");
-
-        Rs2Bank.closeBank();
-        sleep(config.actionDelay());
-        
-        boolean closed = sleepUntil(() -> !Rs2Bank.isOpen(), 3000);
-        
-        if (closed) {
-            errorRecovery.resetError("handleBankInterface");
-            return true;
-        }
-
-        return errorRecovery.handleError("handleBankInterface", 
-            "Failed to close bank");
+    private StageStep openPollBooth(GameActions actions) {
+        log.debug("Opening poll booth");
+        return ActionSteps.interactObject("openPollBooth", actions, POLL_BOOTH, "Use");
     }
 
-    private boolean exitArea(TutorialIslandConfig config) {
-        log.debug("Exiting Financial Advisor area");
-
-        if (Rs2GameObject.interact(DOOR_ID, "Open")) {
-            sleep(config.actionDelay());
-            sleep(1000);
-            errorRecovery.resetError("exitArea");
-            return true;
-        }
-
-        return errorRecovery.handleError("exitArea", "Failed to open door");
+    private StageStep enterAccountGuideRoom(GameActions actions) {
+        log.debug("Entering Account Guide room");
+        return ActionSteps.interactObject("enterAccountGuideRoom", actions, DOOR_ID, "Open");
     }
 
-    private void handleDialogue(TutorialIslandConfig config) {
-        if (Rs2Dialogue.hasContinue()) {
-            Rs2Dialogue.clickContinue();
-            sleep(config.randomizeDelay() ? 
-                config.actionDelay() + (int)(Math.random() * 200) : 
-                config.actionDelay());
-        }
-
-        if (Rs2Dialogue.hasSelectAnOption()) {
-            Rs2Dialogue.keyPressForDialogueOption(1);
-            sleep(config.actionDelay());
-        }
+    private StageStep openAccountTab(GameActions actions) {
+        log.debug("Opening Account Management tab");
+        return ActionSteps.openTab("openAccountTab", actions, GameTab.ACCOUNT_MANAGEMENT);
     }
 
-    private boolean shouldTalkToAdvisor() {
-        return true;
+    private StageStep handleBankInterface(GameActions actions) {
+        log.debug("Bank is open, closing it");
+
+        actions.closeBank();
+        return StageStep.expect("handleBankInterface", s -> !s.isBankOpen(), BANK_CLOSE_TIMEOUT_MS);
     }
 
-    private boolean needsToOpenBank() {
-        return true;
+    private StageStep exitArea(GameActions actions) {
+        log.debug("Exiting Financial Advisor area");
+        return ActionSteps.interactObject("exitArea", actions, EXIT_DOOR_ID, "Open");
     }
 }
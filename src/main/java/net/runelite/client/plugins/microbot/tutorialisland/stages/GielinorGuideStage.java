@@ -2,93 +2,74 @@ package net.runelite.client.plugins.microbot.tutorialisland.stages;
 
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.client.plugins.microbot.tutorialisland.TutorialIslandConfig;
-import net.runelite.client.plugins.microbot.tutorialisland.managers.ErrorRecoveryManager;
-import net.runelite.client.plugins.microbot.util.dialogues.Rs2Dialogue;
-import net.runelite.client.plugins.microbot.util.gameobject.Rs2GameObject;
-import net.runelite.client.plugins.microbot.util.npc.Rs2Npc;
+import net.runelite.client.plugins.microbot.tutorialisland.actions.GameActions;
+import net.runelite.client.plugins.microbot.tutorialisland.enums.GameTab;
+import net.runelite.client.plugins.microbot.tutorialisland.enums.TutorialSubStep;
+import net.runelite.client.plugins.microbot.tutorialisland.managers.DialogueManager;
+import net.runelite.client.plugins.microbot.tutorialisland.managers.DisplayNameManager;
+import net.runelite.client.plugins.microbot.tutorialisland.models.GameStateSnapshot;
+import net.runelite.client.plugins.microbot.tutorialisland.models.TutorialSession;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
-import static net.runelite.client.plugins.microbot.util.Global.sleep;
-import static net.runelite.client.plugins.microbot.util.Global.sleepUntil;
-
 @Slf4j
 @Singleton
 public class GielinorGuideStage implements IStageHandler {
 
     @Inject
-    private ErrorRecoveryManager errorRecovery;
+    private DialogueManager dialogueManager;
+
+    @Inject
+    private DisplayNameManager displayNameManager;
 
     private static final String NPC_GIELINOR_GUIDE = "Gielinor Guide";
     private static final int DOOR_ID = 9398;
 
     @Override
-    public boolean execute(TutorialIslandConfig config) {
+    public StageStep execute(TutorialSession session, TutorialIslandConfig config,
+                             TutorialSubStep subStep, GameStateSnapshot state) {
+        GameActions actions = session.getActions();
+
         try {
-            if (Rs2Dialogue.isInDialogue()) {
-                handleDialogue(config);
-                return true;
+            if (state.isInDialogue()) {
+                return dialogueManager.advance(actions, state);
             }
 
-            if (shouldTalkToGuide()) {
-                return talkToGielinorGuide(config);
+            if (subStep == TutorialSubStep.TALK_TO_GIELINOR_GUIDE && displayNameManager.isNameEntryOpen()) {
+                return displayNameManager.chooseName(session);
             }
 
-            return exitArea(config);
+            switch (subStep) {
+                case TALK_TO_GIELINOR_GUIDE:
+                case TALK_TO_GIELINOR_GUIDE_AGAIN:
+                    return talkToGielinorGuide(actions);
+                case OPEN_SETTINGS_TAB:
+                    return openSettings(actions);
+                case EXIT_GUIDE_HOUSE:
+                    return exitArea(actions);
+                default:
+                    return StageStep.next("gielinorGuideStage");
+            }
 
         } catch (Exception e) {
             log.error("Error in Gielinor Guide stage", e);
-            return false;
+            return StageStep.failed("gielinorGuideStage", e.getMessage());
         }
     }
 
-    private boolean talkToGielinorGuide(TutorialIslandConfig config) {
+    private StageStep talkToGielinorGuide(GameActions actions) {
         log.debug("Talking to Gielinor Guide");
-
-        if (Rs2Npc.interact(NPC_GIELINOR_GUIDE, "Talk-to")) {
-            sleep(config.actionDelay());
-            
-            boolean dialogueOpened = sleepUntil(Rs2Dialogue::isInDialogue, 3000);
-            
-            if (dialogueOpened) {
-                errorRecovery.resetError("talkToGielinorGuide");
-                return true;
-            }
-        }
-
-        return errorRecovery.handleError("talkToGielinorGuide", 
-            "Failed to talk to Gielinor Guide");
+        return ActionSteps.talkTo("talkToGielinorGuide", actions, NPC_GIELINOR_GUIDE);
     }
 
-    private boolean exitArea(TutorialIslandConfig config) {
-        log.debug("Exiting Gielinor Guide area");
-
-        if (Rs2GameObject.interact(DOOR_ID, "Open")) {
-            sleep(config.actionDelay());
-            sleep(1000);
-            errorRecovery.resetError("exitArea");
-            return true;
-        }
-
-        return errorRecovery.handleError("exitArea", "Failed to open door");
+    private StageStep openSettings(GameActions actions) {
+        log.debug("Opening Settings tab");
+        return ActionSteps.openTab("openSettings", actions, GameTab.SETTINGS);
     }
 
-    private void handleDialogue(TutorialIslandConfig config) {
-        if (Rs2Dialogue.hasContinue()) {
-            Rs2Dialogue.clickContinue();
-            sleep(config.randomizeDelay() ? 
-                config.actionDelay() + (int)(Math.random() * 200) : 
-                config.actionDelay());
-        }
-
-        if (Rs2Dialogue.hasSelectAnOption()) {
-            Rs2Dialogue.keyPressForDialogueOption(1);
-            sleep(config.actionDelay());
-        }
-    }
-
-    private boolean shouldTalkToGuide() {
-        return !Rs2Dialogue.isInDialogue();
+    private StageStep exitArea(GameActions actions) {
+        log.debug("Exiting Gielinor Guide area");
+        return ActionSteps.interactObject("exitArea", actions, DOOR_ID, "Open");
     }
 }
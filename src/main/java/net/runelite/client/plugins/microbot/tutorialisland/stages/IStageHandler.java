@@ -1,7 +1,11 @@
 package net.runelite.client.plugins.microbot.tutorialisland.stages;
 
 import net.runelite.client.plugins.microbot.tutorialisland.TutorialIslandConfig;
+import net.runelite.client.plugins.microbot.tutorialisland.enums.TutorialSubStep;
+import net.runelite.client.plugins.microbot.tutorialisland.models.GameStateSnapshot;
+import net.runelite.client.plugins.microbot.tutorialisland.models.TutorialSession;
 
 public interface IStageHandler {
-    boolean execute(TutorialIslandConfig config);
+    StageStep execute(TutorialSession session, TutorialIslandConfig config,
+                      TutorialSubStep subStep, GameStateSnapshot state);
 }
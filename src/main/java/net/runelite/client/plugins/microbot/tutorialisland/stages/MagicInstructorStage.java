@@ -2,169 +2,80 @@ package net.runelite.client.plugins.microbot.tutorialisland.stages;
 
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.api.NpcID;
-import net.runelite.api.Skill;
 import net.runelite.client.plugins.microbot.tutorialisland.TutorialIslandConfig;
-import net.runelite.client.plugins.microbot.tutorialisland.managers.ErrorRecoveryManager;
-import net.runelite.client.plugins.microbot.util.dialogues.Rs2Dialogue;
-import net.runelite.client.plugins.microbot.util.gameobject.Rs2GameObject;
-import net.runelite.client.plugins.microbot.util.magic.Rs2Magic;
-import net.runelite.client.plugins.microbot.util.npc.Rs2Npc;
-import net.runelite.client.plugins.microbot.util.player.Rs2Player;
-import net.runelite.client.plugins.microbot.util.tabs.Rs2Tab;
+import net.runelite.client.plugins.microbot.tutorialisland.actions.GameActions;
+import net.runelite.client.plugins.microbot.tutorialisland.enums.GameTab;
+import net.runelite.client.plugins.microbot.tutorialisland.enums.TutorialSubStep;
+import net.runelite.client.plugins.microbot.tutorialisland.managers.DialogueManager;
+import net.runelite.client.plugins.microbot.tutorialisland.models.GameStateSnapshot;
+import net.runelite.client.plugins.microbot.tutorialisland.models.TutorialSession;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
-import static net.runelite.client.plugins.microbot.util.Global.sleep;
-import static net.runelite.client.plugins.microbot.util.Global.sleepUntil;
-
 @Slf4j
 @Singleton
 public class MagicInstructorStage implements IStageHandler {
 
     @Inject
-    private ErrorRecoveryManager errorRecovery;
+    private DialogueManager dialogueManager;
 
     private static final String NPC_MAGIC_INSTRUCTOR = "Magic Instructor";
     private static final int CHICKEN_ID = NpcID.CHICKEN;
-    private static final int LADDER_ID = 9729;
-
-    private int initialMagicXp = 0;
+    private static final int CAST_TIMEOUT_MS = 9000;
 
     @Override
-    public boolean execute(TutorialIslandConfig config) {
-        try {
-            if (Rs2Dialogue.isInDialogue()) {
-                handleDialogue(config);
-                return true;
-            }
+    public StageStep execute(TutorialSession session, TutorialIslandConfig config,
+                             TutorialSubStep subStep, GameStateSnapshot state) {
+        GameActions actions = session.getActions();
 
-            if (shouldTalkToInstructor()) {
-                return talkToMagicInstructor(config);
-            }
-
-            if (needsToOpenMagic()) {
-                return openMagicTab(config);
+        try {
+            if (state.isInDialogue()) {
+                return dialogueManager.advance(actions, state);
             }
 
-            if (needsToCastSpell()) {
-                return castWindStrike(config);
+            switch (subStep) {
+                case TALK_TO_MAGIC_INSTRUCTOR:
+                case TALK_TO_MAGIC_INSTRUCTOR_AGAIN:
+                case LEAVE_ISLAND:
+                    return talkToMagicInstructor(actions);
+                case OPEN_MAGIC_TAB:
+                    return openMagicTab(actions);
+                case CAST_WIND_STRIKE:
+                    return castWindStrike(actions, state);
+                default:
+                    return StageStep.next("magicInstructorStage");
             }
 
-            return exitArea(config);
-
         } catch (Exception e) {
             log.error("Error in Magic Instructor stage", e);
-            return false;
+            return StageStep.failed("magicInstructorStage", e.getMessage());
         }
     }
 
-    private boolean talkToMagicInstructor(TutorialIslandConfig config) {
+    private StageStep talkToMagicInstructor(GameActions actions) {
         log.debug("Talking to Magic Instructor");
-
-        if (Rs2Npc.interact(NPC_MAGIC_INSTRUCTOR, "Talk-to")) {
-            sleep(config.actionDelay());
-            
-            boolean dialogueOpened = sleepUntil(Rs2Dialogue::isInDialogue, 3000);
-            
-            if (dialogueOpened) {
-                errorRecovery.resetError("talkToMagicInstructor");
-                return true;
-            }
-        }
-
-        return errorRecovery.handleError("talkToMagicInstructor", 
-            "Failed to talk to Magic Instructor");
+        return ActionSteps.talkTo("talkToMagicInstructor", actions, NPC_MAGIC_INSTRUCTOR);
     }
 
-    private boolean openMagicTab(TutorialIslandConfig config) {
+    private StageStep openMagicTab(GameActions actions) {
         log.debug("Opening Magic tab");
-
-        if (Rs2Tab.switchToMagicTab()) {
-            sleep(config.actionDelay());
-            
-            initialMagicXp = Rs2Player.getSkillExperience(Skill.MAGIC);
-            
-            errorRecovery.resetError("openMagicTab");
-            return true;
-        }
-
-        return errorRecovery.handleError("openMagicTab", 
-            "Failed to open Magic tab");
+        return ActionSteps.openTab("openMagicTab", actions, GameTab.MAGIC);
     }
 
-    private boolean castWindStrike(TutorialIslandConfig config) {
+    private StageStep castWindStrike(GameActions actions, GameStateSnapshot state) {
         log.debug("Casting Wind Strike on chicken");
 
-        if (Rs2Player.isAnimating() || Rs2Player.isInCombat()) {
+        if (state.isAnimating() || state.isInCombat()) {
             log.debug("Already casting or in combat, waiting...");
-            sleep(1000);
-            
-            int currentXp = Rs2Player.getSkillExperience(Skill.MAGIC);
-            if (currentXp > initialMagicXp) {
-                log.debug("Wind Strike cast successfully");
-                errorRecovery.resetError("castWindStrike");
-                return true;
-            }
-            return true;
+            return StageStep.awaitProgress("castWindStrike", CAST_TIMEOUT_MS);
         }
 
-        if (Rs2Magic.castOn("Wind Strike", CHICKEN_ID)) {
-            sleep(config.actionDelay());
-            
-            boolean cast = sleepUntil(() -> {
-                int currentXp = Rs2Player.getSkillExperience(Skill.MAGIC);
-                return currentXp > initialMagicXp;
-            }, 10000);
-            
-            if (cast) {
-                log.debug("Wind Strike cast successfully");
-                errorRecovery.resetError("castWindStrike");
-                return true;
-            }
+        if (actions.castSpellOn("Wind Strike", CHICKEN_ID)) {
+            long experience = state.getExperience();
+            return StageStep.expect("castWindStrike", s -> s.getExperience() > experience, CAST_TIMEOUT_MS);
         }
 
-        return errorRecovery.handleError("castWindStrike", 
-            "Failed to cast Wind Strike");
-    }
-
-    private boolean exitArea(TutorialIslandConfig config) {
-        log.debug("Exiting Magic Instructor area");
-
-        if (Rs2GameObject.interact(LADDER_ID, "Climb-down")) {
-            sleep(config.actionDelay());
-            sleep(1500);
-            errorRecovery.resetError("exitArea");
-            return true;
-        }
-
-        return errorRecovery.handleError("exitArea", "Failed to climb ladder");
-    }
-
-    private void handleDialogue(TutorialIslandConfig config) {
-        if (Rs2Dialogue.hasContinue()) {
-            Rs2Dialogue.clickContinue();
-            sleep(config.randomizeDelay() ? 
-                config.actionDelay() + (int)(Math.random() * 200) : 
-                config.actionDelay());
-        }
-
-        if (Rs2Dialogue.hasSelectAnOption()) {
-            Rs2Dialogue.keyPressForDialogueOption(1);
-            sleep(config.actionDelay());
-        }
-    }
-
-    private boolean shouldTalkToInstructor() {
-        return initialMagicXp == 0;
-    }
-
-    private boolean needsToOpenMagic() {
-        return true;
-    }
-
-    private boolean needsToCastSpell() {
-        int currentXp = Rs2Player.getSkillExperience(Skill.MAGIC);
-        return currentXp == initialMagicXp || initialMagicXp == 0;
+        return StageStep.failed("castWindStrike", "Failed to cast Wind Strike");
     }
 }
@@ -3,160 +3,79 @@ package net.runelite.client.plugins.microbot.tutorialisland.stages;
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.api.ItemID;
 import net.runelite.client.plugins.microbot.tutorialisland.TutorialIslandConfig;
-import net.runelite.client.plugins.microbot.tutorialisland.managers.ErrorRecoveryManager;
-import net.runelite.client.plugins.microbot.util.dialogues.Rs2Dialogue;
-import net.runelite.client.plugins.microbot.util.gameobject.Rs2GameObject;
-import net.runelite.client.plugins.microbot.util.inventory.Rs2Inventory;
-import net.runelite.client.plugins.microbot.util.npc.Rs2Npc;
+import net.runelite.client.plugins.microbot.tutorialisland.actions.GameActions;
+import net.runelite.client.plugins.microbot.tutorialisland.enums.TutorialSubStep;
+import net.runelite.client.plugins.microbot.tutorialisland.managers.DialogueManager;
+import net.runelite.client.plugins.microbot.tutorialisland.models.GameStateSnapshot;
+import net.runelite.client.plugins.microbot.tutorialisland.models.TutorialSession;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
-import static net.runelite.client.plugins.microbot.util.Global.sleep;
-import static net.runelite.client.plugins.microbot.util.Global.sleepUntil;
-
 @Slf4j
 @Singleton
 public class MasterChefStage implements IStageHandler {
 
     @Inject
-    private ErrorRecoveryManager errorRecovery;
+    private DialogueManager dialogueManager;
 
     private static final String NPC_MASTER_CHEF = "Master Chef";
-    private static final int RANGE_ID = 9736;
+    private static final int ENTRANCE_DOOR_ID = 9709;
     private static final int DOOR_ID = 9710;
 
     @Override
-    public boolean execute(TutorialIslandConfig config) {
-        try {
-            if (Rs2Dialogue.isInDialogue()) {
-                handleDialogue(config);
-                return true;
-            }
-
-            if (shouldTalkToChef()) {
-                return talkToMasterChef(config);
-            }
+    public StageStep execute(TutorialSession session, TutorialIslandConfig config,
+                             TutorialSubStep subStep, GameStateSnapshot state) {
+        GameActions actions = session.getActions();
 
-            if (needsToDough()) {
-                return makeBreadDough(config);
+        try {
+            if (state.isInDialogue()) {
+                return dialogueManager.advance(actions, state);
             }
 
-            if (needsToCookBread()) {
-                return cookBread(config);
+            switch (subStep) {
+                case ENTER_KITCHEN:
+                    return enterKitchen(actions);
+                case TALK_TO_MASTER_CHEF:
+                    return talkToMasterChef(actions);
+                case MAKE_BREAD_DOUGH:
+                    return makeBreadDough(actions, state);
+                case COOK_BREAD:
+                    return cookBread(actions, state);
+                case EXIT_KITCHEN:
+                    return exitArea(actions);
+                default:
+                    return StageStep.next("masterChefStage");
             }
 
-            return exitArea(config);
-
         } catch (Exception e) {
             log.error("Error in Master Chef stage", e);
-            return false;
+            return StageStep.failed("masterChefStage", e.getMessage());
         }
     }
 
-    private boolean talkToMasterChef(TutorialIslandConfig config) {
-        log.debug("Talking to Master Chef");
-
-        if (Rs2Npc.interact(NPC_MASTER_CHEF, "Talk-to")) {
-            sleep(config.actionDelay());
-            
-            boolean dialogueOpened = sleepUntil(Rs2Dialogue::isInDialogue, 3000);
-            
-            if (dialogueOpened) {
-                errorRecovery.resetError("talkToMasterChef");
-                return true;
-            }
-        }
+    private StageStep enterKitchen(GameActions actions) {
+        log.debug("Entering Master Chef kitchen");
+        return ActionSteps.interactObject("enterKitchen", actions, ENTRANCE_DOOR_ID, "Open");
+    }
 
-        return errorRecovery.handleError("talkToMasterChef", 
-            "Failed to talk to Master Chef");
+    private StageStep talkToMasterChef(GameActions actions) {
+        log.debug("Talking to Master Chef");
+        return ActionSteps.talkTo("talkToMasterChef", actions, NPC_MASTER_CHEF);
     }
 
-    private boolean makeBreadDough(TutorialIslandConfig config) {
+    private StageStep makeBreadDough(GameActions actions, GameStateSnapshot state) {
         log.debug("Making bread dough");
-
-        if (!Rs2Inventory.hasItem(ItemID.POT_OF_FLOUR) || 
-            !Rs2Inventory.hasItem(ItemID.BUCKET_OF_WATER)) {
-            log.warn("Missing ingredients for bread dough");
-            return false;
-        }
-
-        if (Rs2Inventory.combine(ItemID.POT_OF_FLOUR, ItemID.BUCKET_OF_WATER)) {
-            sleep(config.actionDelay());
-            
-            boolean success = sleepUntil(() -> 
-                Rs2Inventory.hasItem(ItemID.BREAD_DOUGH), 3000);
-            
-            if (success) {
-                log.debug("Bread dough created successfully");
-                errorRecovery.resetError("makeBreadDough");
-                return true;
-            }
-        }
-
-        return errorRecovery.handleError("makeBreadDough", 
-            "Failed to make bread dough");
+        return ActionSteps.combine("makeBreadDough", actions, state, ItemID.POT_OF_FLOUR, ItemID.BUCKET_OF_WATER);
     }
 
-    private boolean cookBread(TutorialIslandConfig config) {
+    private StageStep cookBread(GameActions actions, GameStateSnapshot state) {
         log.debug("Cooking bread");
-
-        if (Rs2Inventory.useItemOnObject(ItemID.BREAD_DOUGH, "Range")) {
-            sleep(config.actionDelay());
-            
-            boolean cooked = sleepUntil(() -> 
-                Rs2Inventory.hasItem(ItemID.BREAD) || 
-                Rs2Inventory.hasItem(ItemID.BURNT_BREAD), 5000);
-            
-            if (cooked) {
-                log.debug("Bread cooked successfully");
-                errorRecovery.resetError("cookBread");
-                return true;
-            }
-        }
-
-        return errorRecovery.handleError("cookBread", "Failed to cook bread");
+        return ActionSteps.useItemOn("cookBread", actions, state, ItemID.BREAD_DOUGH, "Range");
     }
 
-    private boolean exitArea(TutorialIslandConfig config) {
+    private StageStep exitArea(GameActions actions) {
         log.debug("Exiting Master Chef area");
-
-        if (Rs2GameObject.interact(DOOR_ID, "Open")) {
-            sleep(config.actionDelay());
-            sleep(1000);
-            errorRecovery.resetError("exitArea");
-            return true;
-        }
-
-        return errorRecovery.handleError("exitArea", "Failed to open door");
-    }
-
-    private void handleDialogue(TutorialIslandConfig config) {
-        if (Rs2Dialogue.hasContinue()) {
-            Rs2Dialogue.clickContinue();
-            sleep(config.randomizeDelay() ? 
-                config.actionDelay() + (int)(Math.random() * 200) : 
-                config.actionDelay());
-        }
-
-        if (Rs2Dialogue.hasSelectAnOption()) {
-            Rs2Dialogue.keyPressForDialogueOption(1);
-            sleep(config.actionDelay());
-        }
-    }
-
-    private boolean shouldTalkToChef() {
-        return !Rs2Inventory.hasItem(ItemID.POT_OF_FLOUR) && 
-               !Rs2Inventory.hasItem(ItemID.BUCKET_OF_WATER);
-    }
-
-    private boolean needsToDough() {
-        return Rs2Inventory.hasItem(ItemID.POT_OF_FLOUR) && 
-               Rs2Inventory.hasItem(ItemID.BUCKET_OF_WATER) &&
-               !Rs2Inventory.hasItem(ItemID.BREAD_DOUGH);
-    }
-
-    private boolean needsToCookBread() {
-        return Rs2Inventory.hasItem(ItemID.BREAD_DOUGH);
+        return ActionSteps.interactObject("exitArea", actions, DOOR_ID, "Open");
     }
 }
@@ -3,244 +3,118 @@ package net.runelite.client.plugins.microbot.tutorialisland.stages;
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.api.ItemID;
 import net.runelite.client.plugins.microbot.tutorialisland.TutorialIslandConfig;
-import net.runelite.client.plugins.microbot.tutorialisland.managers.ErrorRecoveryManager;
-import net.runelite.client.plugins.microbot.util.dialogues.Rs2Dialogue;
-import net.runelite.client.plugins.microbot.util.gameobject.Rs2GameObject;
-import net.runelite.client.plugins.microbot.util.inventory.Rs2Inventory;
-import net.runelite.client.plugins.microbot.util.npc.Rs2Npc;
-import net.runelite.client.plugins.microbot.util.player.Rs2Player;
-import net.runelite.client.plugins.microbot.util.widget.Rs2Widget;
+import net.runelite.client.plugins.microbot.tutorialisland.actions.GameActions;
+import net.runelite.client.plugins.microbot.tutorialisland.enums.GatheringResource;
+import net.runelite.client.plugins.microbot.tutorialisland.enums.TutorialSubStep;
+import net.runelite.client.plugins.microbot.tutorialisland.managers.DialogueManager;
+import net.runelite.client.plugins.microbot.tutorialisland.managers.GatheringManager;
+import net.runelite.client.plugins.microbot.tutorialisland.models.GameStateSnapshot;
+import net.runelite.client.plugins.microbot.tutorialisland.models.TutorialSession;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
-import static net.runelite.client.plugins.microbot.util.Global.sleep;
-import static net.runelite.client.plugins.microbot.util.Global.sleepUntil;
-
 @Slf4j
 @Singleton
 public class MiningInstructorStage implements IStageHandler {
 
     @Inject
-    private ErrorRecoveryManager errorRecovery;
+    private DialogueManager dialogueManager;
+
+    @Inject
+    private GatheringManager gatheringManager;
 
     private static final String NPC_MINING_INSTRUCTOR = "Mining Instructor";
-    private static final int COPPER_ROCKS_ID = 10079;
-    private static final int TIN_ROCKS_ID = 10080;
     private static final int FURNACE_ID = 10082;
     private static final int ANVIL_ID = 10083;
     private static final int GATE_ID = 9720;
+    private static final int SMITHING_WIDGET_GROUP = 312;
+    private static final int SMITHING_DAGGER_CHILD = 9;
+    private static final int SMITH_TIMEOUT_MS = 6000;
+    private static final int SMITHING_INTERFACE_TIMEOUT_MS = 8000;
 
     @Override
-    public boolean execute(TutorialIslandConfig config) {
-        try {
-            if (Rs2Dialogue.isInDialogue()) {
-                handleDialogue(config);
-                return true;
-            }
-
-            if (shouldTalkToInstructor()) {
-                return talkToMiningInstructor(config);
-            }
+    public StageStep execute(TutorialSession session, TutorialIslandConfig config,
+                             TutorialSubStep subStep, GameStateSnapshot state) {
+        GameActions actions = session.getActions();
 
-            if (needsCopperOre()) {
-                return mineCopperOre(config);
-            }
-
-            if (needsTinOre()) {
-                return mineTinOre(config);
-            }
-
-            if (needsToSmeltBar()) {
-                return smeltBronzeBar(config);
+        try {
+            if (state.isInDialogue()) {
+                return dialogueManager.advance(actions, state);
             }
 
-            if (needsToSmithDagger()) {
-                return smithBronzeDagger(config);
+            switch (subStep) {
+                case TALK_TO_MINING_INSTRUCTOR:
+                case TALK_TO_MINING_INSTRUCTOR_AGAIN:
+                    return talkToMiningInstructor(actions);
+                case MINE_TIN:
+                    return mineTinOre(session, state);
+                case MINE_COPPER:
+                    return mineCopperOre(session, state);
+                case SMELT_BRONZE_BAR:
+                    return smeltBronzeBar(actions);
+                case OPEN_ANVIL:
+                    return openAnvil(actions);
+                case SMITH_DAGGER:
+                    return smithBronzeDagger(actions, state);
+                case EXIT_MINE:
+                    return exitArea(actions);
+                default:
+                    return StageStep.next("miningInstructorStage");
             }
 
-            return exitArea(config);
-
         } catch (Exception e) {
             log.error("Error in Mining Instructor stage", e);
-            return false;
+            return StageStep.failed("miningInstructorStage", e.getMessage());
         }
     }
 
-    private boolean talkToMiningInstructor(TutorialIslandConfig config) {
+    private StageStep talkToMiningInstructor(GameActions actions) {
         log.debug("Talking to Mining Instructor");
-
-        if (Rs2Npc.interact(NPC_MINING_INSTRUCTOR, "Talk-to")) {
-            sleep(config.actionDelay());
-            
-            boolean dialogueOpened = sleepUntil(Rs2Dialogue::isInDialogue, 3000);
-            
-            if (dialogueOpened) {
-                errorRecovery.resetError("talkToMiningInstructor");
-                return true;
-            }
-        }
-
-        return errorRecovery.handleError("talkToMiningInstructor", 
-            "Failed to talk to Mining Instructor");
+        return ActionSteps.talkTo("talkToMiningInstructor", actions, NPC_MINING_INSTRUCTOR);
     }
 
-    private boolean mineCopperOre(TutorialIslandConfig config) {
+    private StageStep mineCopperOre(TutorialSession session, GameStateSnapshot state) {
         log.debug("Mining copper ore");
-
-        if (Rs2Player.isAnimating()) {
-            log.debug("Already mining, waiting...");
-            sleep(1000);
-            return true;
-        }
-
-        if (Rs2GameObject.interact(COPPER_ROCKS_ID, "Mine")) {
-            sleep(config.actionDelay());
-            
-            boolean started = sleepUntil(Rs2Player::isAnimating, 3000);
-            
-            if (started) {
-                sleepUntil(() -> Rs2Inventory.hasItem(ItemID.COPPER_ORE), 15000);
-                errorRecovery.resetError("mineCopperOre");
-                return true;
-            }
-        }
-
-        return errorRecovery.handleError("mineCopperOre", "Failed to mine copper");
+        return gatheringManager.gather(session, state, "mineCopperOre", GatheringResource.COPPER_ROCKS);
     }
 
-    private boolean mineTinOre(TutorialIslandConfig config) {
+    private StageStep mineTinOre(TutorialSession session, GameStateSnapshot state) {
         log.debug("Mining tin ore");
-
-        if (Rs2Player.isAnimating()) {
-            log.debug("Already mining, waiting...");
-            sleep(1000);
-            return true;
-        }
-
-        if (Rs2GameObject.interact(TIN_ROCKS_ID, "Mine")) {
-            sleep(config.actionDelay());
-            
-            boolean started = sleepUntil(Rs2Player::isAnimating, 3000);
-            
-            if (started) {
-                sleepUntil(() -> Rs2Inventory.hasItem(ItemID.TIN_ORE), 15000);
-                errorRecovery.resetError("mineTinOre");
-                return true;
-            }
-        }
-
-        return errorRecovery.handleError("mineTinOre", "Failed to mine tin");
+        return gatheringManager.gather(session, state, "mineTinOre", GatheringResource.TIN_ROCKS);
     }
 
-    private boolean smeltBronzeBar(TutorialIslandConfig config) {
+    private StageStep smeltBronzeBar(GameActions actions) {
         log.debug("Smelting bronze bar");
+        return ActionSteps.interactObject("smeltBronzeBar", actions, FURNACE_ID, "Use");
+    }
 
-        if (!Rs2Inventory.hasItem(ItemID.COPPER_ORE) || 
-            !Rs2Inventory.hasItem(ItemID.TIN_ORE)) {
-            log.warn("Missing ores for smelting");
-            return false;
-        }
-
-        if (Rs2GameObject.interact(FURNACE_ID, "Use")) {
-            sleep(config.actionDelay());
-            
-            boolean success = sleepUntil(() -> 
-                Rs2Inventory.hasItem(ItemID.BRONZE_BAR), 5000);
-            
-            if (success) {
-                log.debug("Bronze bar smelted successfully");
-                errorRecovery.resetError("smeltBronzeBar");
-                return true;
-            }
-        }
-
-        return errorRecovery.handleError("smeltBronzeBar", 
-            "Failed to smelt bronze bar");
+    private StageStep openAnvil(GameActions actions) {
+        log.debug("Opening anvil");
+        return ActionSteps.interactObject("openAnvil", actions, ANVIL_ID, "Smith");
     }
 
-    private boolean smithBronzeDagger(TutorialIslandConfig config) {
+    private StageStep smithBronzeDagger(GameActions actions, GameStateSnapshot state) {
         log.debug("Smithing bronze dagger");
 
-        if (!Rs2Inventory.hasItem(ItemID.BRONZE_BAR)) {
-            log.warn("No bronze bar to smith");
-            return false;
-        }
-
-        if (Rs2GameObject.interact(ANVIL_ID, "Smith")) {
-            sleep(config.actionDelay());
-            
-            sleep(1000);
-            
-            Rs2Widget.clickWidget(312, 9);
-            
-            sleep(config.actionDelay());
-            
-            boolean success = sleepUntil(() -> 
-                Rs2Inventory.hasItem(ItemID.BRONZE_DAGGER), 5000);
-            
-            if (success) {
-                log.debug("Bronze dagger smithed successfully");
-                errorRecovery.resetError("smithBronzeDagger");
-                return true;
+        if (state.isWidgetOpen(SMITHING_WIDGET_GROUP)) {
+            if (!actions.clickWidget(SMITHING_WIDGET_GROUP, SMITHING_DAGGER_CHILD)) {
+                return StageStep.failed("smithBronzeDagger", "Bronze dagger option not found");
             }
+            return StageStep.expect("smithBronzeDagger", s ->
+                s.hasItem(ItemID.BRONZE_DAGGER), SMITH_TIMEOUT_MS);
         }
 
-        return errorRecovery.handleError("smithBronzeDagger", 
-            "Failed to smith bronze dagger");
-    }
-
-    private boolean exitArea(TutorialIslandConfig config) {
-        log.debug("Exiting Mining Instructor area");
-
-        if (Rs2GameObject.interact(GATE_ID, "Open")) {
-            sleep(config.actionDelay());
-            sleep(1000);
-            errorRecovery.resetError("exitArea");
-            return true;
+        if (actions.interactObject(ANVIL_ID, "Smith")) {
+            return StageStep.expect("openSmithingInterface", s ->
+                s.isWidgetOpen(SMITHING_WIDGET_GROUP), SMITHING_INTERFACE_TIMEOUT_MS);
         }
 
-        return errorRecovery.handleError("exitArea", "Failed to open gate");
+        return StageStep.failed("smithBronzeDagger", "Failed to smith bronze dagger");
     }
 
-    private void handleDialogue(TutorialIslandConfig config) {
-        if (Rs2Dialogue.hasContinue()) {
-            Rs2Dialogue.clickContinue();
-            sleep(config.randomizeDelay() ? 
-                config.actionDelay() + (int)(Math.random() * 200) : 
-                config.actionDelay());
-        }
-
-        if (Rs2Dialogue.hasSelectAnOption()) {
-            Rs2Dialogue.keyPressForDialogueOption(1);
-            sleep(config.actionDelay());
-        }
-    }
-
-    private boolean shouldTalkToInstructor() {
-        return !Rs2Inventory.hasItem(ItemID.BRONZE_PICKAXE);
-    }
-
-    private boolean needsCopperOre() {
-        return Rs2Inventory.hasItem(ItemID.BRONZE_PICKAXE) && 
-               !Rs2Inventory.hasItem(ItemID.COPPER_ORE) &&
-               !Rs2Inventory.hasItem(ItemID.BRONZE_BAR);
-    }
-
-    private boolean needsTinOre() {
-        return Rs2Inventory.hasItem(ItemID.COPPER_ORE) && 
-               !Rs2Inventory.hasItem(ItemID.TIN_ORE) &&
-               !Rs2Inventory.hasItem(ItemID.BRONZE_BAR);
-    }
-
-    private boolean needsToSmeltBar() {
-        return Rs2Inventory.hasItem(ItemID.COPPER_ORE) && 
-               Rs2Inventory.hasItem(ItemID.TIN_ORE) &&
-               !Rs2Inventory.hasItem(ItemID.BRONZE_BAR);
-    }
-
-    private boolean needsToSmithDagger() {
-        return Rs2Inventory.hasItem(ItemID.BRONZE_BAR) &&
-               !Rs2Inventory.hasItem(ItemID.BRONZE_DAGGER);
+    private StageStep exitArea(GameActions actions) {
+        log.debug("Exiting Mining Instructor area");
+        return ActionSteps.interactObject("exitArea", actions, GATE_ID, "Open");
     }
 }
@@ -0,0 +1,68 @@
+package net.runelite.client.plugins.microbot.tutorialisland.stages;
+
+import lombok.Getter;
+import net.runelite.client.plugins.microbot.tutorialisland.models.GameStateSnapshot;
+
+import java.util.function.Predicate;
+
+@Getter
+public final class StageStep {
+
+    private static final int TICK_MS = 600;
+
+    private final String action;
+    private final Predicate<GameStateSnapshot> wakeCondition;
+    private final int timeoutTicks;
+    private final boolean failOnTimeout;
+    private final String failureReason;
+
+    private StageStep(String action, Predicate<GameStateSnapshot> wakeCondition, int timeoutTicks,
+                      boolean failOnTimeout, String failureReason) {
+        this.action = action;
+        this.wakeCondition = wakeCondition;
+        this.timeoutTicks = timeoutTicks;
+        this.failOnTimeout = failOnTimeout;
+        this.failureReason = failureReason;
+    }
+
+    public static StageStep expect(String action, Predicate<GameStateSnapshot> condition, int timeoutMs) {
+        return new StageStep(action, condition, toTicks(timeoutMs), true, null);
+    }
+
+    public static StageStep waitUntil(String action, Predicate<GameStateSnapshot> condition, int timeoutMs) {
+        return new StageStep(action, condition, toTicks(timeoutMs), false, null);
+    }
+
+    public static StageStep awaitProgress(String action, int timeoutMs) {
+        return new StageStep(action, null, toTicks(timeoutMs), true, null);
+    }
+
+    public static StageStep delay(String action, int delayMs) {
+        return new StageStep(action, null, toTicks(delayMs), false, null);
+    }
+
+    public static StageStep next(String action) {
+        return new StageStep(action, null, 1, false, null);
+    }
+
+    public static StageStep failed(String action, String reason) {
+        return new StageStep(action, null, 0, false, reason);
+    }
+
+    public boolean isFailed() {
+        return failureReason != null;
+    }
+
+    public boolean isSatisfied(GameStateSnapshot state) {
+        return wakeCondition != null && wakeCondition.test(state);
+    }
+
+    private static int toTicks(int ms) {
+        return Math.max(1, (ms + TICK_MS - 1) / TICK_MS);
+    }
+
+    @Override
+    public String toString() {
+        return isFailed() ? action + " (failed: " + failureReason + ")" : action;
+    }
+}
@@ -0,0 +1,436 @@
+package net.runelite.client.plugins.microbot.tutorialisland.simulation;
+
+import lombok.Getter;
+import net.runelite.api.ItemID;
+import net.runelite.api.NpcID;
+import net.runelite.client.plugins.microbot.tutorialisland.actions.GameActions;
+import net.runelite.client.plugins.microbot.tutorialisland.enums.GameTab;
+import net.runelite.client.plugins.microbot.tutorialisland.enums.TutorialSubStep;
+import net.runelite.client.plugins.microbot.tutorialisland.models.GameStateSnapshot;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Consumer;
+
+public class SimulatedIsland implements GameActions {
+
+    private static final int DIALOGUE_LINES = 3;
+    private static final int GATHER_TICKS = 4;
+    private static final int COMBAT_TICKS = 6;
+    private static final int DOOR_TICKS = 2;
+
+    private static final TutorialSubStep[] SUB_STEPS = TutorialSubStep.values();
+
+    private final Map<TutorialSubStep, Map<String, Consumer<SimulatedIsland>>> rules =
+        new EnumMap<>(TutorialSubStep.class);
+    private final Random random;
+
+    private final List<Integer> inventory = new ArrayList<>();
+    private final List<Integer> equipment = new ArrayList<>();
+
+    private int tick;
+    private int progress;
+    private int dialogueLines;
+    private Runnable onDialogueEnd;
+    private int busyUntilTick;
+    private boolean busyIsCombat;
+    private Runnable onBusyEnd;
+    private boolean bankOpen;
+    private boolean smithingOpen;
+
+    @Getter
+    private int actionCount;
+
+    @Getter
+    private int rejectedActions;
+
+    public SimulatedIsland(long seed) {
+        this.random = new Random(seed);
+        defineRules();
+        reset();
+    }
+
+    public void reset() {
+        inventory.clear();
+        equipment.clear();
+        tick = 0;
+        progress = TutorialSubStep.TALK_TO_GIELINOR_GUIDE.getVarbit();
+        dialogueLines = 0;
+        onDialogueEnd = null;
+        busyUntilTick = 0;
+        onBusyEnd = null;
+        bankOpen = false;
+        smithingOpen = false;
+        actionCount = 0;
+        rejectedActions = 0;
+    }
+
+    public void tick() {
+        tick++;
+
+        if (onBusyEnd != null && tick >= busyUntilTick) {
+            Runnable end = onBusyEnd;
+            onBusyEnd = null;
+            end.run();
+        }
+    }
+
+    public GameStateSnapshot snapshot() {
+        boolean busy = onBusyEnd != null;
+
+        GameStateSnapshot.Builder builder = GameStateSnapshot.builder()
+            .tick(tick)
+            .animating(busy && !busyIsCombat)
+            .inCombat(busy && busyIsCombat)
+            .inventory(toArray(inventory))
+            .equipment(toArray(equipment))
+            .tutorialProgress(progress);
+
+        if (dialogueLines > 0) {
+            builder.dialogue(true, false)
+                .dialogueText(null, "Line " + dialogueLines);
+        }
+
+        if (bankOpen) {
+            builder.openWidget(GameStateSnapshot.BANK_GROUP_ID);
+        }
+
+        if (smithingOpen) {
+            builder.openWidget(GameStateSnapshot.SMITHING_GROUP_ID);
+        }
+
+        return builder.build();
+    }
+
+    public TutorialSubStep getSubStep() {
+        return TutorialSubStep.fromVarbit(progress);
+    }
+
+    public boolean isComplete() {
+        return getSubStep() == TutorialSubStep.COMPLETED;
+    }
+
+    @Override
+    public boolean interactNpc(String name, String action) {
+        return perform("npc:" + name + ":" + action);
+    }
+
+    @Override
+    public boolean interactNpc(int npcId, String action) {
+        return perform("npc:" + npcId + ":" + action);
+    }
+
+    @Override
+    public boolean interactObject(String name, String action) {
+        return perform("object:" + name + ":" + action);
+    }
+
+    @Override
+    public boolean interactObject(int objectId, String action) {
+        return perform("object:" + objectId + ":" + action);
+    }
+
+    @Override
+    public boolean combineItems(int firstItemId, int secondItemId) {
+        if (!inventory.contains(firstItemId) || !inventory.contains(secondItemId)) {
+            return reject();
+        }
+        return perform("combine:" + firstItemId + ":" + secondItemId);
+    }
+
+    @Override
+    public boolean useItemOnObject(int itemId, String objectName) {
+        if (!inventory.contains(itemId)) {
+            return reject();
+        }
+        return perform("use:" + itemId + ":" + objectName);
+    }
+
+    @Override
+    public boolean wield(int itemId) {
+        if (!inventory.contains(itemId)) {
+            return reject();
+        }
+
+        inventory.remove(Integer.valueOf(itemId));
+        equipment.add(itemId);
+        perform("wield:" + itemId);
+        return true;
+    }
+
+    @Override
+    public boolean openTab(GameTab tab) {
+        perform("tab:" + tab.name());
+        return true;
+    }
+
+    @Override
+    public boolean clickWidget(int groupId, int childId) {
+        return perform("widget:" + groupId + ":" + childId);
+    }
+
+    @Override
+    public boolean clickWidget(String text) {
+        return perform("widget:" + text);
+    }
+
+    @Override
+    public void continueDialogue() {
+        actionCount++;
+
+        if (dialogueLines <= 0) {
+            rejectedActions++;
+            return;
+        }
+
+        if (--dialogueLines == 0 && onDialogueEnd != null) {
+            Runnable end = onDialogueEnd;
+            onDialogueEnd = null;
+            end.run();
+        }
+    }
+
+    @Override
+    public void selectDialogueOption(int option) {
+        continueDialogue();
+    }
+
+    @Override
+    public void closeBank() {
+        actionCount++;
+        bankOpen = false;
+    }
+
+    @Override
+    public boolean castSpellOn(String spell, int npcId) {
+        return perform("spell:" + spell + ":" + npcId);
+    }
+
+    @Override
+    public void showMessage(String message) {
+    }
+
+    private boolean perform(String key) {
+        actionCount++;
+
+        Map<String, Consumer<SimulatedIsland>> stepRules = rules.get(getSubStep());
+        Consumer<SimulatedIsland> effect = stepRules == null ? null : stepRules.get(key);
+
+        if (effect == null || onBusyEnd != null && busyIsCombat) {
+            rejectedActions++;
+            return false;
+        }
+
+        effect.accept(this);
+        return true;
+    }
+
+    private boolean reject() {
+        actionCount++;
+        rejectedActions++;
+        return false;
+    }
+
+    private void advance() {
+        TutorialSubStep current = getSubStep();
+        progress = SUB_STEPS[Math.min(current.ordinal() + 1, SUB_STEPS.length - 1)].getVarbit();
+    }
+
+    private void talk(int... grantedItems) {
+        dialogueLines = DIALOGUE_LINES + random.nextInt(3);
+        onDialogueEnd = () -> {
+            grant(grantedItems);
+            advance();
+        };
+    }
+
+    private void busy(int ticks, boolean combat, Runnable end) {
+        busyUntilTick = tick + ticks;
+        busyIsCombat = combat;
+        onBusyEnd = end;
+    }
+
+    private void gather(int itemId) {
+        if (onBusyEnd != null) {
+            return;
+        }
+
+        busy(GATHER_TICKS + random.nextInt(4), false, () -> {
+            grant(itemId);
+            advance();
+        });
+    }
+
+    private void fight() {
+        busy(COMBAT_TICKS + random.nextInt(6), true, this::advance);
+    }
+
+    private void grant(int... itemIds) {
+        for (int itemId : itemIds) {
+            inventory.add(itemId);
+        }
+    }
+
+    private void consume(int... itemIds) {
+        for (int itemId : itemIds) {
+            inventory.remove(Integer.valueOf(itemId));
+        }
+    }
+
+    private void rule(TutorialSubStep subStep, String key, Consumer<SimulatedIsland> effect) {
+        rules.computeIfAbsent(subStep, s -> new HashMap<>()).put(key, effect);
+    }
+
+    private void talkRule(TutorialSubStep subStep, String npc, int... grantedItems) {
+        rule(subStep, "npc:" + npc + ":Talk-to", island -> island.talk(grantedItems));
+    }
+
+    private void advanceRule(TutorialSubStep subStep, String key) {
+        rule(subStep, key, SimulatedIsland::advance);
+    }
+
+    private void doorRule(TutorialSubStep subStep, String key) {
+        rule(subStep, key, island -> island.busy(DOOR_TICKS, false, island::advance));
+    }
+
+    private void defineRules() {
+        talkRule(TutorialSubStep.TALK_TO_GIELINOR_GUIDE, "Gielinor Guide");
+        advanceRule(TutorialSubStep.OPEN_SETTINGS_TAB, "tab:SETTINGS");
+        talkRule(TutorialSubStep.TALK_TO_GIELINOR_GUIDE_AGAIN, "Gielinor Guide");
+        doorRule(TutorialSubStep.EXIT_GUIDE_HOUSE, "object:9398:Open");
+
+        talkRule(TutorialSubStep.TALK_TO_SURVIVAL_EXPERT, "Survival Expert",
+            ItemID.SMALL_FISHING_NET, ItemID.BRONZE_AXE, ItemID.TINDERBOX);
+        advanceRule(TutorialSubStep.OPEN_INVENTORY_TAB, "tab:INVENTORY");
+        rule(TutorialSubStep.FISH_SHRIMP, "npc:10091:Net", island -> island.gather(ItemID.RAW_SHRIMPS));
+        advanceRule(TutorialSubStep.OPEN_SKILLS_TAB, "tab:SKILLS");
+        talkRule(TutorialSubStep.TALK_TO_SURVIVAL_EXPERT_AGAIN, "Survival Expert");
+        rule(TutorialSubStep.CHOP_TREE, "object:9730:Chop down", island -> island.gather(ItemID.LOGS));
+        rule(TutorialSubStep.LIGHT_FIRE, "combine:" + ItemID.TINDERBOX + ":" + ItemID.LOGS, island -> {
+            island.consume(ItemID.LOGS);
+            island.busy(3, false, island::advance);
+        });
+        rule(TutorialSubStep.COOK_SHRIMP, "use:" + ItemID.RAW_SHRIMPS + ":Fire", island -> {
+            island.consume(ItemID.RAW_SHRIMPS);
+            island.busy(3, false, () -> {
+                island.grant(ItemID.SHRIMPS);
+                island.advance();
+            });
+        });
+        doorRule(TutorialSubStep.EXIT_SURVIVAL_AREA, "object:9716:Open");
+
+        doorRule(TutorialSubStep.ENTER_KITCHEN, "object:9709:Open");
+        talkRule(TutorialSubStep.TALK_TO_MASTER_CHEF, "Master Chef",
+            ItemID.POT_OF_FLOUR, ItemID.BUCKET_OF_WATER);
+        rule(TutorialSubStep.MAKE_BREAD_DOUGH, "combine:" + ItemID.POT_OF_FLOUR + ":" + ItemID.BUCKET_OF_WATER, island -> {
+            island.consume(ItemID.POT_OF_FLOUR, ItemID.BUCKET_OF_WATER);
+            island.grant(ItemID.BREAD_DOUGH);
+            island.advance();
+        });
+        rule(TutorialSubStep.COOK_BREAD, "use:" + ItemID.BREAD_DOUGH + ":Range", island -> {
+            island.consume(ItemID.BREAD_DOUGH);
+            island.busy(3, false, () -> {
+                island.grant(ItemID.BREAD);
+                island.advance();
+            });
+        });
+        doorRule(TutorialSubStep.EXIT_KITCHEN, "object:9710:Open");
+
+        doorRule(TutorialSubStep.ENTER_QUEST_HOUSE, "object:Door:Open");
+        talkRule(TutorialSubStep.TALK_TO_QUEST_GUIDE, "Quest Guide");
+        advanceRule(TutorialSubStep.OPEN_QUEST_TAB, "tab:QUEST");
+        talkRule(TutorialSubStep.TALK_TO_QUEST_GUIDE_AGAIN, "Quest Guide");
+        doorRule(TutorialSubStep.CLIMB_DOWN_TO_MINE, "object:9727:Climb-down");
+
+        talkRule(TutorialSubStep.TALK_TO_MINING_INSTRUCTOR, "Mining Instructor", ItemID.BRONZE_PICKAXE);
+        rule(TutorialSubStep.MINE_TIN, "object:10080:Mine", island -> island.gather(ItemID.TIN_ORE));
+        rule(TutorialSubStep.MINE_COPPER, "object:10079:Mine", island -> island.gather(ItemID.COPPER_ORE));
+        rule(TutorialSubStep.SMELT_BRONZE_BAR, "object:10082:Use", island -> {
+            island.consume(ItemID.TIN_ORE, ItemID.COPPER_ORE);
+            island.busy(3, false, () -> {
+                island.grant(ItemID.BRONZE_BAR);
+                island.advance();
+            });
+        });
+        talkRule(TutorialSubStep.TALK_TO_MINING_INSTRUCTOR_AGAIN, "Mining Instructor", ItemID.HAMMER);
+        rule(TutorialSubStep.OPEN_ANVIL, "object:10083:Smith", island -> {
+            island.smithingOpen = true;
+            island.advance();
+        });
+        rule(TutorialSubStep.SMITH_DAGGER, "object:10083:Smith", island -> island.smithingOpen = true);
+        rule(TutorialSubStep.SMITH_DAGGER, "widget:312:9", island -> {
+            island.smithingOpen = false;
+            island.consume(ItemID.BRONZE_BAR);
+            island.busy(3, false, () -> {
+                island.grant(ItemID.BRONZE_DAGGER);
+                island.advance();
+            });
+        });
+        doorRule(TutorialSubStep.EXIT_MINE, "object:9720:Open");
+
+        talkRule(TutorialSubStep.TALK_TO_COMBAT_INSTRUCTOR, "Combat Instructor");
+        advanceRule(TutorialSubStep.OPEN_EQUIPMENT_TAB, "tab:EQUIPMENT");
+        advanceRule(TutorialSubStep.OPEN_EQUIPMENT_STATS, "widget:View equipment stats");
+        advanceRule(TutorialSubStep.EQUIP_DAGGER, "wield:" + ItemID.BRONZE_DAGGER);
+        talkRule(TutorialSubStep.TALK_TO_COMBAT_INSTRUCTOR_AGAIN, "Combat Instructor",
+            ItemID.BRONZE_SWORD, ItemID.WOODEN_SHIELD);
+        rule(TutorialSubStep.EQUIP_SWORD_AND_SHIELD, "wield:" + ItemID.BRONZE_SWORD, island -> { });
+        advanceRule(TutorialSubStep.EQUIP_SWORD_AND_SHIELD, "wield:" + ItemID.WOODEN_SHIELD);
+        advanceRule(TutorialSubStep.OPEN_COMBAT_TAB, "tab:COMBAT");
+        doorRule(TutorialSubStep.ENTER_RAT_PEN, "object:Gate:Open");
+        rule(TutorialSubStep.ATTACK_RAT, "npc:" + NpcID.GIANT_RAT_2 + ":Attack", island -> {
+            island.advance();
+            island.fight();
+        });
+        rule(TutorialSubStep.KILL_RAT, "npc:" + NpcID.GIANT_RAT_2 + ":Attack", SimulatedIsland::fight);
+        talkRule(TutorialSubStep.TALK_TO_COMBAT_INSTRUCTOR_AFTER_MELEE, "Combat Instructor",
+            ItemID.SHORTBOW, ItemID.BRONZE_ARROW);
+        rule(TutorialSubStep.SHOOT_RAT, "wield:" + ItemID.SHORTBOW, island -> { });
+        rule(TutorialSubStep.SHOOT_RAT, "wield:" + ItemID.BRONZE_ARROW, island -> { });
+        rule(TutorialSubStep.SHOOT_RAT, "npc:" + NpcID.GIANT_RAT_2 + ":Attack", island -> {
+            island.advance();
+            island.fight();
+        });
+        rule(TutorialSubStep.KILL_RAT_RANGED, "npc:" + NpcID.GIANT_RAT_2 + ":Attack", SimulatedIsland::fight);
+        doorRule(TutorialSubStep.CLIMB_UP_FROM_MINE, "object:9726:Climb-up");
+
+        rule(TutorialSubStep.OPEN_BANK, "npc:Banker:Bank", island -> {
+            island.bankOpen = true;
+            island.advance();
+        });
+        advanceRule(TutorialSubStep.OPEN_POLL_BOOTH, "object:Poll booth:Use");
+        doorRule(TutorialSubStep.ENTER_ACCOUNT_GUIDE_ROOM, "object:9721:Open");
+        talkRule(TutorialSubStep.TALK_TO_ACCOUNT_GUIDE, "Account Guide");
+        advanceRule(TutorialSubStep.OPEN_ACCOUNT_TAB, "tab:ACCOUNT_MANAGEMENT");
+        talkRule(TutorialSubStep.TALK_TO_ACCOUNT_GUIDE_AGAIN, "Account Guide");
+        doorRule(TutorialSubStep.EXIT_BANK, "object:Door:Open");
+
+        talkRule(TutorialSubStep.TALK_TO_BROTHER_BRACE, "Brother Brace");
+        advanceRule(TutorialSubStep.OPEN_PRAYER_TAB, "tab:PRAYER");
+        talkRule(TutorialSubStep.TALK_TO_BROTHER_BRACE_AGAIN, "Brother Brace");
+        advanceRule(TutorialSubStep.OPEN_FRIENDS_TAB, "tab:FRIENDS");
+        talkRule(TutorialSubStep.TALK_TO_BROTHER_BRACE_FINAL, "Brother Brace");
+        doorRule(TutorialSubStep.EXIT_CHAPEL, "object:9722:Open");
+
+        talkRule(TutorialSubStep.TALK_TO_MAGIC_INSTRUCTOR, "Magic Instructor");
+        advanceRule(TutorialSubStep.OPEN_MAGIC_TAB, "tab:MAGIC");
+        talkRule(TutorialSubStep.TALK_TO_MAGIC_INSTRUCTOR_AGAIN, "Magic Instructor",
+            ItemID.AIR_RUNE, ItemID.MIND_RUNE);
+        rule(TutorialSubStep.CAST_WIND_STRIKE, "spell:Wind Strike:" + NpcID.CHICKEN,
+            island -> island.busy(3, false, island::advance));
+        talkRule(TutorialSubStep.LEAVE_ISLAND, "Magic Instructor");
+        talkRule(TutorialSubStep.FINISH_TUTORIAL, "Skippy");
+    }
+
+    private static int[] toArray(List<Integer> items) {
+        int[] ids = new int[items.size()];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = items.get(i);
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,150 @@
+package net.runelite.client.plugins.microbot.tutorialisland.simulation;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.api.Client;
+import net.runelite.client.plugins.microbot.tutorialisland.TutorialIslandConfig;
+import net.runelite.client.plugins.microbot.tutorialisland.enums.TutorialStage;
+import net.runelite.client.plugins.microbot.tutorialisland.managers.TutorialStageManager;
+import net.runelite.client.plugins.microbot.tutorialisland.models.TutorialSession;
+
+import java.lang.reflect.Proxy;
+import java.util.Arrays;
+
+@Slf4j
+public class TutorialSimulation {
+
+    private static final int MAX_TICKS = 5000;
+
+    private final TutorialIslandConfig config = new TutorialIslandConfig() {
+    };
+
+    public static void main(String[] args) {
+        int runs = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+        long seed = args.length > 1 ? Long.parseLong(args[1]) : 0L;
+        int concurrentSessions = args.length > 2 ? Integer.parseInt(args[2]) : 16;
+
+        new TutorialSimulation().run(runs, seed, concurrentSessions);
+    }
+
+    public void run(int runs, long seed, int concurrentSessions) {
+        TutorialStageManager stageManager = createInjector().getInstance(TutorialStageManager.class);
+        long[] decisionNanos = new long[runs * 64];
+        int decisions = 0;
+        int completed = 0;
+        long totalTicks = 0;
+        long totalActions = 0;
+        long totalRejected = 0;
+        long start = System.nanoTime();
+
+        for (int batchStart = 0; batchStart < runs; batchStart += concurrentSessions) {
+            int batchSize = Math.min(concurrentSessions, runs - batchStart);
+            SimulatedIsland[] islands = new SimulatedIsland[batchSize];
+            TutorialSession[] sessions = new TutorialSession[batchSize];
+            int[] ticks = new int[batchSize];
+
+            for (int i = 0; i < batchSize; i++) {
+                islands[i] = new SimulatedIsland(seed + batchStart + i);
+                sessions[i] = new TutorialSession("sim-" + (batchStart + i), islands[i]);
+            }
+
+            int active = batchSize;
+            while (active > 0) {
+                active = 0;
+                for (int i = 0; i < batchSize; i++) {
+                    SimulatedIsland island = islands[i];
+                    if (island.isComplete() || ticks[i] >= MAX_TICKS) {
+                        continue;
+                    }
+                    active++;
+
+                    TutorialSession session = sessions[i];
+                    island.tick();
+                    session.advanceTick(island.snapshot());
+
+                    long before = System.nanoTime();
+                    TutorialStage stage = stageManager.detectCurrentStage(session);
+                    boolean progressing = stageManager.handleStage(session, stage, config);
+                    long elapsed = System.nanoTime() - before;
+
+                    if (decisions == decisionNanos.length) {
+                        decisionNanos = Arrays.copyOf(decisionNanos, decisions * 2);
+                    }
+                    decisionNanos[decisions++] = elapsed;
+
+                    if (!progressing && log.isDebugEnabled()) {
+                        log.debug("Session {} tick {}: stage {} reported a failure at {}",
+                            session.getId(), ticks[i], stage, island.getSubStep());
+                    }
+                    ticks[i]++;
+                }
+            }
+
+            for (int i = 0; i < batchSize; i++) {
+                SimulatedIsland island = islands[i];
+                if (island.isComplete()) {
+                    completed++;
+                    totalTicks += ticks[i];
+                } else {
+                    log.warn("Session {} stalled at {} after {} ticks",
+                        sessions[i].getId(), island.getSubStep(), ticks[i]);
+                }
+
+                totalActions += island.getActionCount();
+                totalRejected += island.getRejectedActions();
+            }
+        }
+
+        long wallMs = Math.max(1, (System.nanoTime() - start) / 1_000_000);
+        long[] sorted = Arrays.copyOf(decisionNanos, decisions);
+        Arrays.sort(sorted);
+
+        log.info("Simulated {} runs ({} concurrent sessions) in {} ms ({} runs/min)",
+            runs, concurrentSessions, wallMs, runs * 60_000L / wallMs);
+        log.info("Completed: {}/{}, mean ticks to complete: {}", completed, runs,
+            completed == 0 ? 0 : totalTicks / completed);
+        log.info("Actions: {}, rejected: {}", totalActions, totalRejected);
+        log.info("Decision latency p50={}us p99={}us max={}us",
+            percentile(sorted, 0.50) / 1000, percentile(sorted, 0.99) / 1000,
+            sorted.length == 0 ? 0 : sorted[sorted.length - 1] / 1000);
+
+        if (completed != runs) {
+            System.exit(1);
+        }
+    }
+
+    private static Injector createInjector() {
+        return Guice.createInjector(new AbstractModule() {
+            @Override
+            protected void configure() {
+                bind(Client.class).toInstance(unavailable(Client.class));
+            }
+        });
+    }
+
+    private static <T> T unavailable(Class<T> type) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type},
+            (proxy, method, args) -> {
+                if (method.getDeclaringClass() == Object.class) {
+                    switch (method.getName()) {
+                        case "equals":
+                            return proxy == args[0];
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        default:
+                            return "Unavailable" + type.getSimpleName();
+                    }
+                }
+                throw new UnsupportedOperationException(type.getSimpleName() + " is not available in the simulation");
+            }));
+    }
+
+    private static long percentile(long[] sorted, double fraction) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        return sorted[Math.min(sorted.length - 1, (int) (sorted.length * fraction))];
+    }
+}